@@ -0,0 +1,86 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.EmployeeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares plain deserialization of a roster fetch against deserialization followed by
+ * {@link EmployeeRoster#canonicalize(List)}. Run with {@code ./gradlew jmh}; the gc profiler
+ * reports allocation per fetch, and the trial tear-down prints the retained heap of
+ * {@code inFlightCopies} identical fetches held at once, as measured by JOL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeCanonicalizationBenchmark {
+
+    @Param({"24", "1000"})
+    public int rosterSize;
+
+    @Param({"32"})
+    public int inFlightCopies;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] payload;
+    private EmployeeRoster employeeRoster;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        StringBuilder json = new StringBuilder("{\"status\":\"success\",\"data\":[");
+        for (int i = 1; i <= rosterSize; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"").append(i)
+                    .append("\",\"employee_name\":\"Employee Number ").append(i)
+                    .append("\",\"employee_salary\":\"").append(50000 + i * 137)
+                    .append("\",\"employee_age\":\"").append(20 + i % 45)
+                    .append("\",\"profile_image\":\"\"}");
+        }
+        payload = json.append("]}").toString().getBytes();
+
+        employeeRoster = new EmployeeRoster();
+        employeeRoster.update(employeeRoster.canonicalize(fetch()));
+    }
+
+    @TearDown(Level.Trial)
+    public void reportRetainedHeap() throws IOException {
+        List<List<Employee>> raw = new ArrayList<>();
+        List<List<Employee>> canonical = new ArrayList<>();
+        for (int i = 0; i < inFlightCopies; i++) {
+            raw.add(fetch());
+            canonical.add(employeeRoster.canonicalize(fetch()));
+        }
+        long rosterBytes = GraphLayout.parseInstance(employeeRoster.canonicalize(fetch())).totalSize();
+        long rawBytes = GraphLayout.parseInstance(raw).totalSize();
+        long canonicalBytes = GraphLayout.parseInstance(canonical).totalSize();
+        System.out.printf("%nRetained heap for %d fetches of %d employees: raw=%d bytes, canonical=%d bytes (%d bytes shared roster)%n",
+                inFlightCopies, rosterSize, rawBytes, canonicalBytes, rosterBytes);
+    }
+
+    @Benchmark
+    public List<Employee> deserialize() throws IOException {
+        return fetch();
+    }
+
+    @Benchmark
+    public List<Employee> deserializeAndCanonicalize() throws IOException {
+        return employeeRoster.canonicalize(fetch());
+    }
+
+    private List<Employee> fetch() throws IOException {
+        return objectMapper.readValue(payload, EmployeeResponse.class).getData();
+    }
+}
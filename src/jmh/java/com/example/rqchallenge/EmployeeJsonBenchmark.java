@@ -0,0 +1,106 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.EmployeeResponse;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written streaming binding against Jackson's reflective bean binding,
+ * which is restored on a second mapper through mix-ins that cancel the custom (de)serializers
+ * and declare the creator and property names the bean binding needs.
+ * Run with {@code ./gradlew jmh}; the gc profiler adds allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    @JsonSerialize(using = JsonSerializer.None.class)
+    abstract static class ReflectiveBinding {
+    }
+
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    @JsonSerialize(using = JsonSerializer.None.class)
+    abstract static class ReflectiveEmployee {
+        @JsonProperty("id")
+        Integer id;
+        @JsonProperty("employee_name")
+        String employeeName;
+        @JsonProperty("employee_salary")
+        Integer employeeSalary;
+        @JsonProperty("employee_age")
+        Integer employeeAge;
+        @JsonProperty("profile_image")
+        String profileImage;
+
+        @JsonCreator
+        ReflectiveEmployee(@JsonProperty("id") Integer id,
+                           @JsonProperty("employee_name") String employeeName,
+                           @JsonProperty("employee_salary") Integer employeeSalary,
+                           @JsonProperty("employee_age") Integer employeeAge,
+                           @JsonProperty("profile_image") String profileImage) {
+        }
+    }
+
+    @Param({"24", "1000"})
+    public int rosterSize;
+
+    private final ObjectMapper streamingMapper = new ObjectMapper();
+    private final ObjectMapper reflectiveMapper = new ObjectMapper()
+            .addMixIn(Employee.class, ReflectiveEmployee.class)
+            .addMixIn(EmployeeResponse.class, ReflectiveBinding.class);
+
+    private byte[] payload;
+    private EmployeeResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        StringBuilder json = new StringBuilder("{\"status\":\"success\",\"data\":[");
+        for (int i = 1; i <= rosterSize; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"").append(i)
+                    .append("\",\"employee_name\":\"Employee Number ").append(i)
+                    .append("\",\"employee_salary\":\"").append(50000 + i * 137)
+                    .append("\",\"employee_age\":\"").append(20 + i % 45)
+                    .append("\",\"profile_image\":\"\"}");
+        }
+        payload = json.append("]}").toString().getBytes();
+        response = streamingMapper.readValue(payload, EmployeeResponse.class);
+    }
+
+    @Benchmark
+    public EmployeeResponse deserializeStreaming() throws IOException {
+        return streamingMapper.readValue(payload, EmployeeResponse.class);
+    }
+
+    @Benchmark
+    public EmployeeResponse deserializeReflective() throws IOException {
+        return reflectiveMapper.readValue(payload, EmployeeResponse.class);
+    }
+
+    @Benchmark
+    public byte[] serializeStreaming() throws IOException {
+        return streamingMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeReflective() throws IOException {
+        return reflectiveMapper.writeValueAsBytes(response);
+    }
+}
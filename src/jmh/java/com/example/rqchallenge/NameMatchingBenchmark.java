@@ -0,0 +1,64 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.entities.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one substring name search over the roster: lower-casing every name per query, as
+ * the search used to do, against matching the names folded once at load time. The gc
+ * profiler's {@code gc.alloc.rate.norm} is the allocation per query; for the pre-normalized
+ * search it no longer grows with the roster size. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameMatchingBenchmark {
+
+    private static final String[] NAMES = {"Tiger Nixon", "Garrett Winters", "José Núñez", "Søren Kierkegaard",
+            "Ayşe Işık", "Łukasz Kowalski", "Nguyễn Văn An", "Zoë Saldaña", "Dmitri Ivanov", "Ashton Cox"};
+
+    @Param({"1000", "100000"})
+    public int rosterSize;
+
+    private final EmployeeRoster roster = new EmployeeRoster();
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employees = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            employees.add(new Employee(i, NAMES[i % NAMES.length] + " " + i, 50000, 30));
+        }
+        roster.update(employees);
+    }
+
+    @Benchmark
+    public List<Employee> lowerCasePerRow() {
+        String needle = "nunez".toLowerCase();
+        List<Employee> matches = new ArrayList<>();
+        for (Employee employee : employees) {
+            if (employee.getEmployeeName().toLowerCase().contains(needle)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<Employee> preNormalized() {
+        return roster.searchByName("NÚÑEZ", false);
+    }
+
+    @Benchmark
+    public List<Employee> preNormalizedAccentInsensitive() {
+        return roster.searchByName("nunez", true);
+    }
+}
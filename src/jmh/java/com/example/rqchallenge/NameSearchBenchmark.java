@@ -0,0 +1,66 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.search.NameMatches;
+import com.example.rqchallenge.search.NameSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-keystroke latency of typeahead lookups over a synthetic roster. Surnames are random
+ * base-36 strings, which is close to the worst case for the fuzzy walk since almost no
+ * prefixes are shared. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class NameSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"james", "mary", "john", "patricia", "robert", "jennifer",
+            "michael", "linda", "william", "elizabeth", "david", "barbara", "richard", "susan", "joseph", "jessica"};
+
+    @Param({"1000000"})
+    public int rosterSize;
+
+    private NameSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            String surname = Long.toString(random.nextLong() & 0xffffffffL, 36);
+            employees.add(new Employee(i, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + surname, 50000, 30));
+        }
+        index = NameSearchIndex.EMPTY.apply(Collections.emptyList(), employees);
+    }
+
+    @Benchmark
+    public List<Integer> prefix() {
+        return index.prefix("jen", 10);
+    }
+
+    @Benchmark
+    public NameMatches fuzzyOneEdit() {
+        return index.fuzzy("jenifer", 1, 10);
+    }
+
+    @Benchmark
+    public NameMatches fuzzyTwoEdits() {
+        return index.fuzzy("jenifer", 2, 10);
+    }
+
+    /** Nothing within two edits, so every distance is walked until the step budget runs out. */
+    @Benchmark
+    public NameMatches fuzzyTwoEditsNoMatch() {
+        return index.fuzzy("jxnifxr", 2, 10);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.analytics.EmployeeFilter;
+import com.example.rqchallenge.analytics.SalaryAnalytics;
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.SalaryBandSummary;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the age band summary and of a filtered top-N over the roster: aggregated on one
+ * thread, aggregated in parallel with per-worker partials, and served from the per-version
+ * cache. The uncached variants bump the roster version before every call so nothing is
+ * reused. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SalaryAnalyticsBenchmark {
+
+    private static final EmployeeFilter FILTER = new EmployeeFilter(25, 45, 50000, null);
+
+    @Param({"1000", "100000"})
+    public int rosterSize;
+
+    private final EmployeeRoster roster = new EmployeeRoster();
+    private SalaryAnalytics sequential;
+    private SalaryAnalytics parallel;
+    private List<Employee> employees;
+    private List<Employee> employeesWithExtra;
+    private boolean withExtra;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employees = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            employees.add(new Employee(i, "Employee " + i, (int) ((i * 7919L) % 500000), 18 + i % 50));
+        }
+        employeesWithExtra = new ArrayList<>(employees);
+        employeesWithExtra.add(new Employee(rosterSize, "Extra", 1, 40));
+        roster.update(employees);
+        sequential = new SalaryAnalytics(roster, "20,30,40,50,60", Integer.MAX_VALUE, 256);
+        parallel = new SalaryAnalytics(roster, "20,30,40,50,60", 1, 256);
+    }
+
+    @Setup(Level.Invocation)
+    public void bumpVersion(BenchmarkParams params) {
+        if (!params.getBenchmark().endsWith("Cached")) {
+            withExtra = !withExtra;
+            roster.update(withExtra ? employeesWithExtra : employees);
+        }
+    }
+
+    @Benchmark
+    public List<SalaryBandSummary> bandsSequential() {
+        return sequential.getSalaryBands(5);
+    }
+
+    @Benchmark
+    public List<SalaryBandSummary> bandsParallel() {
+        return parallel.getSalaryBands(5);
+    }
+
+    @Benchmark
+    public List<SalaryBandSummary> bandsCached() {
+        return parallel.getSalaryBands(5);
+    }
+
+    @Benchmark
+    public List<Employee> filteredTopSequential() {
+        return sequential.getTopEarners(FILTER, 10);
+    }
+
+    @Benchmark
+    public List<Employee> filteredTopParallel() {
+        return parallel.getTopEarners(FILTER, 10);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.cache.LocalRosterCache;
+import com.example.rqchallenge.dao.EmployeeDAO;
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.dao.PendingWrites;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one failed upstream call through {@link EmployeeDAO#getEmployeeById}, including
+ * the rate-limited error log, for each kind of failure the DAO tells apart. The upstream
+ * exception is built once and rethrown, so only the DAO's own handling is measured: 404s
+ * return null, 429s and the other expected failures rethrow a shared stackless exception,
+ * and unexpected errors build one with a stack trace and the cause chained. Failures come
+ * in storms here, so nearly every log call is suppressed, as it is during an outage. Run
+ * with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpstreamFailureBenchmark {
+
+    @Param({"rate-limited", "not-found", "network", "server", "unexpected"})
+    public String failure;
+
+    private EmployeeDAO employeeDAO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RuntimeException upstreamFailure = upstreamFailure(failure);
+        RestTemplate restTemplate = new RestTemplate() {
+            @Override
+            public <T> T getForObject(String url, Class<T> responseType, Object... uriVariables) {
+                throw upstreamFailure;
+            }
+        };
+        employeeDAO = new EmployeeDAO(restTemplate, new EmployeeRoster(), null, new LocalRosterCache(60000, 10000),
+                new PendingWrites(120000));
+    }
+
+    @Benchmark
+    public Object getEmployeeById() {
+        try {
+            return employeeDAO.getEmployeeById("1");
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static RuntimeException upstreamFailure(String failure) {
+        switch (failure) {
+            case "rate-limited":
+                return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+            case "not-found":
+                return HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+            case "network":
+                return new ResourceAccessException("Connection refused");
+            case "server":
+                return HttpServerErrorException.create(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", null, null, null);
+            default:
+                return new IllegalStateException("Unexpected response");
+        }
+    }
+}
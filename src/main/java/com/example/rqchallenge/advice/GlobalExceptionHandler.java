@@ -1,6 +1,8 @@
 package com.example.rqchallenge.advice;
 
+import com.example.rqchallenge.exceptions.DeadlineExceededException;
 import com.example.rqchallenge.exceptions.NotFoundException;
+import com.example.rqchallenge.exceptions.ServiceUnavailableException;
 import com.example.rqchallenge.exceptions.TooManyRequestsException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +29,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ex.getMessage());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<String> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<String> handleDeadlineExceededException(DeadlineExceededException ex) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(ex.getMessage());
+    }
+
     @ExceptionHandler(ResourceAccessException.class)
     public ResponseEntity<String> handleResourceAccessException(ResourceAccessException ex) {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Network issue: Please check your connection.");
@@ -0,0 +1,70 @@
+package com.example.rqchallenge.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Age brackets used to group the roster, given by their ascending lower bounds: bounds of
+ * {@code 30,40} give {@code <30}, {@code 30-39} and {@code 40+}. Employees without an age
+ * fall into a trailing {@code unknown} band.
+ */
+public final class AgeBands {
+
+    static final String UNKNOWN = "unknown";
+
+    private final int[] lowerBounds;
+
+    public AgeBands(int... lowerBounds) {
+        if (lowerBounds.length == 0) {
+            throw new IllegalArgumentException("At least one age band boundary is required");
+        }
+        for (int i = 1; i < lowerBounds.length; i++) {
+            if (lowerBounds[i] <= lowerBounds[i - 1]) {
+                throw new IllegalArgumentException("Age band boundaries must be strictly ascending: " + Arrays.toString(lowerBounds));
+            }
+        }
+        this.lowerBounds = lowerBounds.clone();
+    }
+
+    public static AgeBands parse(String boundaries) {
+        return new AgeBands(Arrays.stream(boundaries.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray());
+    }
+
+    /** Number of bands, including the {@code unknown} one. */
+    public int count() {
+        return lowerBounds.length + 2;
+    }
+
+    public int indexOf(Integer age) {
+        if (age == null) {
+            return count() - 1;
+        }
+        int index = 0;
+        while (index < lowerBounds.length && age >= lowerBounds[index]) {
+            index++;
+        }
+        return index;
+    }
+
+    public String label(int index) {
+        if (index == 0) {
+            return "<" + lowerBounds[0];
+        }
+        if (index == lowerBounds.length) {
+            return lowerBounds[index - 1] + "+";
+        }
+        if (index > lowerBounds.length) {
+            return UNKNOWN;
+        }
+        return lowerBounds[index - 1] + "-" + (lowerBounds[index] - 1);
+    }
+
+    /** Lowest age in the band, or null when it is open below or unknown. */
+    public Integer minAge(int index) {
+        return index == 0 || index > lowerBounds.length ? null : lowerBounds[index - 1];
+    }
+
+    /** Highest age in the band, or null when it is open above or unknown. */
+    public Integer maxAge(int index) {
+        return index >= lowerBounds.length ? null : lowerBounds[index] - 1;
+    }
+}
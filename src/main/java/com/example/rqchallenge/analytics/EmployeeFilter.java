@@ -0,0 +1,62 @@
+package com.example.rqchallenge.analytics;
+
+import com.example.rqchallenge.entities.Employee;
+
+import java.util.Objects;
+
+/**
+ * Inclusive age and salary ranges selecting a subset of the roster. Unset bounds are open;
+ * an employee without an age or salary only passes when no bound applies to it.
+ */
+public final class EmployeeFilter {
+
+    public static final EmployeeFilter ALL = new EmployeeFilter(null, null, null, null);
+
+    private final Integer minAge;
+    private final Integer maxAge;
+    private final Integer minSalary;
+    private final Integer maxSalary;
+
+    public EmployeeFilter(Integer minAge, Integer maxAge, Integer minSalary, Integer maxSalary) {
+        if (minAge != null && maxAge != null && minAge > maxAge) {
+            throw new IllegalArgumentException("minAge must not be greater than maxAge");
+        }
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+        }
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+    }
+
+    public boolean matches(Employee employee) {
+        return within(employee.getEmployeeAge(), minAge, maxAge) && within(employee.getEmployeeSalary(), minSalary, maxSalary);
+    }
+
+    private static boolean within(Integer value, Integer min, Integer max) {
+        if (value == null) {
+            return min == null && max == null;
+        }
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeFilter that = (EmployeeFilter) o;
+        return Objects.equals(minAge, that.minAge) && Objects.equals(maxAge, that.maxAge)
+                && Objects.equals(minSalary, that.minSalary) && Objects.equals(maxSalary, that.maxSalary);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minAge, maxAge, minSalary, maxSalary);
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeFilter{age=" + minAge + ".." + maxAge + ", salary=" + minSalary + ".." + maxSalary + "}";
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.rqchallenge.analytics;
+
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.SalaryBandSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Salary aggregations over the {@link EmployeeRoster}: totals, averages and top earners per
+ * {@link AgeBands age band}, and the top earners of any {@link EmployeeFilter filtered}
+ * subset.
+ * <p>
+ * Rosters of at least {@code parallel-threshold} employees are aggregated with a parallel
+ * stream, each worker filling its own partial aggregates that are merged at the end, so
+ * no state is shared while scanning. Results are cached until the roster version changes;
+ * at most {@code max-cached-queries} distinct queries are kept per version.
+ */
+@Component
+public class SalaryAnalytics {
+
+    private final EmployeeRoster employeeRoster;
+    private final AgeBands ageBands;
+    private final int parallelThreshold;
+    private final int maxCachedQueries;
+    private volatile CachedResults cache = new CachedResults(-1, Collections.emptyList());
+
+    public SalaryAnalytics(EmployeeRoster employeeRoster,
+                           @Value("${api.analytics.age-bands:20,30,40,50,60}") String ageBands,
+                           @Value("${api.analytics.parallel-threshold:10000}") int parallelThreshold,
+                           @Value("${api.analytics.max-cached-queries:256}") int maxCachedQueries) {
+        this.employeeRoster = employeeRoster;
+        this.ageBands = AgeBands.parse(ageBands);
+        this.parallelThreshold = parallelThreshold;
+        this.maxCachedQueries = maxCachedQueries;
+    }
+
+    /** One summary per age band, youngest first, each with its {@code topN} best paid employees. */
+    public List<SalaryBandSummary> getSalaryBands(int topN) {
+        requirePositive(topN, "topN");
+        CachedResults results = currentResults();
+        List<SalaryBandSummary> summaries = results.bands.get(topN);
+        if (summaries == null) {
+            summaries = aggregateBands(results.employees, topN);
+            results.store(results.bands, topN, summaries, maxCachedQueries);
+        }
+        return summaries;
+    }
+
+    /** The {@code limit} best paid employees matching {@code filter}, highest salary first. */
+    public List<Employee> getTopEarners(EmployeeFilter filter, int limit) {
+        requirePositive(limit, "limit");
+        CachedResults results = currentResults();
+        List<Object> key = Arrays.asList(filter, limit);
+        List<Employee> topEarners = results.topEarners.get(key);
+        if (topEarners == null) {
+            topEarners = Collections.unmodifiableList(stream(results.employees)
+                    .filter(filter::matches)
+                    .collect(() -> new TopEarners(limit), TopEarners::offer, TopEarners::merge)
+                    .toList());
+            results.store(results.topEarners, key, topEarners, maxCachedQueries);
+        }
+        return topEarners;
+    }
+
+    private List<SalaryBandSummary> aggregateBands(List<Employee> employees, int topN) {
+        BandAggregate[] totals = stream(employees).collect(
+                () -> BandAggregate.forBands(ageBands.count(), topN),
+                (partial, employee) -> partial[ageBands.indexOf(employee.getEmployeeAge())].add(employee),
+                (left, right) -> {
+                    for (int i = 0; i < left.length; i++) {
+                        left[i].merge(right[i]);
+                    }
+                });
+
+        List<SalaryBandSummary> summaries = new ArrayList<>(totals.length);
+        for (int i = 0; i < totals.length; i++) {
+            BandAggregate band = totals[i];
+            if (band.count == 0 && AgeBands.UNKNOWN.equals(ageBands.label(i))) {
+                continue;
+            }
+            boolean anySalary = band.count > band.unknownSalaries;
+            summaries.add(new SalaryBandSummary(ageBands.label(i), ageBands.minAge(i), ageBands.maxAge(i), band.count,
+                    band.unknownSalaries, band.total, anySalary ? band.lowest : null, anySalary ? band.highest : null,
+                    band.topEarners.toList()));
+        }
+        return Collections.unmodifiableList(summaries);
+    }
+
+    private static void requirePositive(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be at least 1");
+        }
+    }
+
+    private Stream<Employee> stream(List<Employee> employees) {
+        return employees.size() >= parallelThreshold ? employees.parallelStream() : employees.stream();
+    }
+
+    private CachedResults currentResults() {
+        long version = employeeRoster.getVersion();
+        CachedResults results = cache;
+        if (results.version != version) {
+            results = new CachedResults(version, employeeRoster.getEmployees());
+            cache = results;
+        }
+        return results;
+    }
+
+    /**
+     * Everything computed for one roster version. The employees are read after the version,
+     * so they are never older than it; a roster updated in between only costs a recompute.
+     */
+    private static final class CachedResults {
+        private final long version;
+        private final List<Employee> employees;
+        private final Map<Integer, List<SalaryBandSummary>> bands = new ConcurrentHashMap<>();
+        private final Map<List<Object>, List<Employee>> topEarners = new ConcurrentHashMap<>();
+
+        private CachedResults(long version, List<Employee> employees) {
+            this.version = version;
+            this.employees = employees;
+        }
+
+        private <K, V> void store(Map<K, V> results, K key, V value, int maxEntries) {
+            if (bands.size() + topEarners.size() < maxEntries) {
+                results.putIfAbsent(key, value);
+            }
+        }
+    }
+
+    /**
+     * Partial aggregate of one band, filled by a single worker and merged afterwards.
+     * Employees without a salary are counted, but left out of the salary figures.
+     */
+    private static final class BandAggregate {
+        private long count;
+        private long unknownSalaries;
+        private long total;
+        private int lowest = Integer.MAX_VALUE;
+        private int highest = Integer.MIN_VALUE;
+        private final TopEarners topEarners;
+
+        private BandAggregate(int topN) {
+            this.topEarners = new TopEarners(topN);
+        }
+
+        private static BandAggregate[] forBands(int bands, int topN) {
+            BandAggregate[] aggregates = new BandAggregate[bands];
+            for (int i = 0; i < bands; i++) {
+                aggregates[i] = new BandAggregate(topN);
+            }
+            return aggregates;
+        }
+
+        private void add(Employee employee) {
+            count++;
+            if (employee.getEmployeeSalary() == null) {
+                unknownSalaries++;
+                return;
+            }
+            int salary = employee.getEmployeeSalary();
+            total += salary;
+            lowest = Math.min(lowest, salary);
+            highest = Math.max(highest, salary);
+            topEarners.offer(employee);
+        }
+
+        private void merge(BandAggregate other) {
+            count += other.count;
+            unknownSalaries += other.unknownSalaries;
+            total += other.total;
+            lowest = Math.min(lowest, other.lowest);
+            highest = Math.max(highest, other.highest);
+            topEarners.merge(other.topEarners);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.rqchallenge.analytics;
+
+import com.example.rqchallenge.entities.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The {@code limit} best paid employees seen so far, kept in a min-heap so each offer is
+ * O(log limit) and the memory stays bounded whatever the roster size. Ties on salary go to
+ * the lower id, matching the roster's own salary ranking. Employees without a salary are
+ * never ranked.
+ */
+final class TopEarners {
+
+    static final Comparator<Employee> BY_SALARY_DESCENDING =
+            Comparator.comparingInt(Employee::getEmployeeSalary).reversed().thenComparing(Employee::getId);
+
+    private final int limit;
+    private final PriorityQueue<Employee> heap;
+
+    TopEarners(int limit) {
+        this.limit = limit;
+        this.heap = new PriorityQueue<>(Math.min(limit, 64) + 1, BY_SALARY_DESCENDING.reversed());
+    }
+
+    void offer(Employee employee) {
+        if (employee.getEmployeeSalary() == null) {
+            return;
+        }
+        if (heap.size() < limit) {
+            heap.add(employee);
+        } else if (BY_SALARY_DESCENDING.compare(employee, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(employee);
+        }
+    }
+
+    void merge(TopEarners other) {
+        for (Employee employee : other.heap) {
+            offer(employee);
+        }
+    }
+
+    List<Employee> toList() {
+        List<Employee> ranked = new ArrayList<>(heap);
+        ranked.sort(BY_SALARY_DESCENDING);
+        return ranked;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.entities.Employee;
+
+import java.util.List;
+
+public class CachedRoster {
+
+    private final long fetchedAt;
+    private final List<Employee> employees;
+
+    public CachedRoster(long fetchedAt, List<Employee> employees) {
+        this.fetchedAt = fetchedAt;
+        this.employees = employees;
+    }
+
+    /**
+     * Epoch millis of the upstream fetch; doubles as the roster's stamp.
+     */
+    public long getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.rqchallenge.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process {@link RosterCache} for a single instance. The lease still matters here: it
+ * lets one of several concurrent requests fetch while the others wait for its result.
+ */
+@Component
+@ConditionalOnProperty(name = "api.roster.cache.type", havingValue = "local", matchIfMissing = true)
+public class LocalRosterCache implements RosterCache {
+
+    private final long ttlMillis;
+    private final long leaseMillis;
+    private final AtomicLong leaseExpiresAt = new AtomicLong();
+    private volatile CachedRoster roster;
+
+    public LocalRosterCache(@Value("${api.roster.cache.ttl-ms:60000}") long ttlMillis,
+                            @Value("${api.roster.cache.lease-ms:10000}") long leaseMillis) {
+        this.ttlMillis = ttlMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @Override
+    public long stamp() {
+        CachedRoster current = get();
+        return current == null ? 0 : current.getFetchedAt();
+    }
+
+    @Override
+    public CachedRoster get() {
+        CachedRoster current = roster;
+        return current != null && System.currentTimeMillis() - current.getFetchedAt() < ttlMillis ? current : null;
+    }
+
+    @Override
+    public void put(CachedRoster roster) {
+        this.roster = roster;
+    }
+
+    @Override
+    public boolean tryAcquireRefreshLease() {
+        long now = System.currentTimeMillis();
+        long expiresAt = leaseExpiresAt.get();
+        return now >= expiresAt && leaseExpiresAt.compareAndSet(expiresAt, now + leaseMillis);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.entities.Employee;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link RosterCache} kept in Redis so every replica shares one roster and one refresh lease.
+ * <p>
+ * The roster is stored under a single key as a zero-padded 20-digit fetch time followed by
+ * the roster JSON, so {@link #stamp()} reads just the first 20 bytes with {@code GETRANGE}
+ * and nodes only transfer the full roster when it has actually changed. The lease is a
+ * {@code SET NX PX} on a second key.
+ * <p>
+ * Stamp checks and lease attempts go over one connection and transfers of the roster over
+ * another, so the per-request stamp check never queues behind a large {@code GET}.
+ * <p>
+ * When Redis is unreachable the cache reports a miss and falls back to a lease held in this
+ * process, so each node fetches for itself as it did before the cache existed, but still
+ * only one request per node at a time rather than every request that misses. After a failed
+ * command Redis is not contacted again for {@code retry-ms}, doubling on each further
+ * failure up to {@link #MAX_RETRY_MILLIS}, so an outage costs one connect timeout per
+ * retry rather than one per request.
+ */
+@Component
+@ConditionalOnProperty(name = "api.roster.cache.type", havingValue = "redis")
+public class RedisRosterCache implements RosterCache {
+
+    private static final int STAMP_LENGTH = 20;
+    private static final long MAX_RETRY_MILLIS = 30000;
+    private static final TypeReference<List<Employee>> EMPLOYEE_LIST = new TypeReference<List<Employee>>() {
+    };
+
+    private final String host;
+    private final int port;
+    private final int timeoutMillis;
+    private final String rosterKey;
+    private final String leaseKey;
+    private final long ttlMillis;
+    private final long leaseMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long retryMillis;
+    private final ObjectMapper objectMapper;
+    private final Connection control = new Connection();
+    private final Connection bulk = new Connection();
+    private final Object outageLock = new Object();
+    private final AtomicLong localLeaseExpiresAt = new AtomicLong();
+    private volatile long unavailableUntil;
+    private volatile long retryDelayMillis;
+    private static final Logger logger = LoggerFactory.getLogger(RedisRosterCache.class);
+
+    public RedisRosterCache(ObjectMapper objectMapper,
+                            @Value("${api.roster.cache.redis.host:localhost}") String host,
+                            @Value("${api.roster.cache.redis.port:6379}") int port,
+                            @Value("${api.roster.cache.redis.timeout-ms:1000}") int timeoutMillis,
+                            @Value("${api.roster.cache.redis.key:rq-challenge:roster}") String rosterKey,
+                            @Value("${api.roster.cache.ttl-ms:60000}") long ttlMillis,
+                            @Value("${api.roster.cache.lease-ms:10000}") long leaseMillis,
+                            @Value("${api.roster.cache.redis.retry-ms:1000}") long retryMillis) {
+        this.objectMapper = objectMapper;
+        this.host = host;
+        this.port = port;
+        this.timeoutMillis = timeoutMillis;
+        this.rosterKey = rosterKey;
+        this.leaseKey = rosterKey + ":lease";
+        this.ttlMillis = ttlMillis;
+        this.leaseMillis = leaseMillis;
+        this.retryMillis = retryMillis;
+    }
+
+    @Override
+    public long stamp() {
+        try {
+            String stamp = (String) command(control, "GETRANGE", rosterKey, "0", String.valueOf(STAMP_LENGTH - 1));
+            return stamp == null || stamp.length() < STAMP_LENGTH ? 0 : Long.parseLong(stamp);
+        } catch (IOException | NumberFormatException e) {
+            logFailure("Could not read shared roster stamp", e);
+            return 0;
+        }
+    }
+
+    @Override
+    public CachedRoster get() {
+        try {
+            String value = (String) command(bulk, "GET", rosterKey);
+            if (value == null || value.length() < STAMP_LENGTH) {
+                return null;
+            }
+            long fetchedAt = Long.parseLong(value.substring(0, STAMP_LENGTH));
+            return new CachedRoster(fetchedAt, objectMapper.readValue(value.substring(STAMP_LENGTH), EMPLOYEE_LIST));
+        } catch (IOException | NumberFormatException e) {
+            logFailure("Could not read shared roster", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(CachedRoster roster) {
+        try {
+            String value = String.format("%0" + STAMP_LENGTH + "d", roster.getFetchedAt())
+                    + objectMapper.writeValueAsString(roster.getEmployees());
+            command(bulk, "SET", rosterKey, value, "PX", String.valueOf(ttlMillis));
+        } catch (IOException e) {
+            logFailure("Could not share roster", e);
+        }
+    }
+
+    @Override
+    public boolean tryAcquireRefreshLease() {
+        try {
+            return command(control, "SET", leaseKey, nodeId, "NX", "PX", String.valueOf(leaseMillis)) != null;
+        } catch (IOException e) {
+            logFailure("Could not acquire roster refresh lease, falling back to a local lease", e);
+            return tryAcquireLocalLease();
+        }
+    }
+
+    private boolean tryAcquireLocalLease() {
+        long now = System.currentTimeMillis();
+        long expiresAt = localLeaseExpiresAt.get();
+        return now >= expiresAt && localLeaseExpiresAt.compareAndSet(expiresAt, now + leaseMillis);
+    }
+
+    @PreDestroy
+    public void close() {
+        control.disconnect();
+        bulk.disconnect();
+    }
+
+    private Object command(Connection connection, String... args) throws IOException {
+        if (System.currentTimeMillis() < unavailableUntil) {
+            throw RedisUnavailableException.INSTANCE;
+        }
+        try {
+            Object reply = connection.command(args);
+            if (retryDelayMillis != 0) {
+                recovered();
+            }
+            return reply;
+        } catch (IOException e) {
+            backOff();
+            throw e;
+        }
+    }
+
+    private void backOff() {
+        synchronized (outageLock) {
+            retryDelayMillis = retryDelayMillis == 0 ? retryMillis : Math.min(retryDelayMillis * 2, MAX_RETRY_MILLIS);
+            unavailableUntil = System.currentTimeMillis() + retryDelayMillis;
+            logger.warn("Redis at {}:{} failed, not retrying for {} ms", host, port, retryDelayMillis);
+        }
+    }
+
+    private void recovered() {
+        synchronized (outageLock) {
+            if (retryDelayMillis != 0) {
+                retryDelayMillis = 0;
+                logger.info("Redis at {}:{} is reachable again", host, port);
+            }
+        }
+    }
+
+    private static void logFailure(String message, Exception e) {
+        if (e instanceof RedisUnavailableException) {
+            logger.debug("{}: {}", message, e.getMessage());
+        } else {
+            logger.warn("{}: {}", message, e.getMessage());
+        }
+    }
+
+    /** One lazily opened connection, used by one command at a time. */
+    private final class Connection {
+        private RespClient client;
+
+        private synchronized Object command(String... args) throws IOException {
+            try {
+                if (client == null) {
+                    client = new RespClient(host, port, timeoutMillis);
+                }
+                return client.command(args);
+            } catch (IOException e) {
+                disconnect();
+                throw e;
+            }
+        }
+
+        private synchronized void disconnect() {
+            if (client != null) {
+                try {
+                    client.close();
+                } catch (IOException e) {
+                    logger.debug("Error closing Redis connection: {}", e.getMessage());
+                }
+                client = null;
+            }
+        }
+    }
+
+    /** Thrown instead of contacting Redis while backing off; expected, so stackless and shared. */
+    private static final class RedisUnavailableException extends IOException {
+        private static final RedisUnavailableException INSTANCE = new RedisUnavailableException();
+
+        private RedisUnavailableException() {
+            super("Redis unavailable, backing off");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
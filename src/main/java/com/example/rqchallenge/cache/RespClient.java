@@ -0,0 +1,107 @@
+package com.example.rqchallenge.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal client for the Redis serialization protocol (RESP2), covering the handful of
+ * string commands {@link RedisRosterCache} needs. One connection, one command at a time.
+ */
+class RespClient implements Closeable {
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+
+    RespClient(String host, int port, int timeoutMillis) throws IOException {
+        socket = new Socket();
+        socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+        socket.setSoTimeout(timeoutMillis);
+        socket.setTcpNoDelay(true);
+        in = new BufferedInputStream(socket.getInputStream());
+        out = new BufferedOutputStream(socket.getOutputStream());
+    }
+
+    /**
+     * Sends one command and returns its reply: a {@code String} for simple and bulk
+     * strings, a {@code Long} for integers, or null for a null bulk string.
+     */
+    Object command(String... args) throws IOException {
+        writeArray(args);
+        out.flush();
+        return readReply();
+    }
+
+    private void writeArray(String[] args) throws IOException {
+        writeLine('*', String.valueOf(args.length));
+        for (String arg : args) {
+            byte[] bytes = arg.getBytes(StandardCharsets.UTF_8);
+            writeLine('$', String.valueOf(bytes.length));
+            out.write(bytes);
+            out.write('\r');
+            out.write('\n');
+        }
+    }
+
+    private void writeLine(char type, String value) throws IOException {
+        out.write(type);
+        out.write(value.getBytes(StandardCharsets.US_ASCII));
+        out.write('\r');
+        out.write('\n');
+    }
+
+    private Object readReply() throws IOException {
+        int type = in.read();
+        String line = readLine();
+        switch (type) {
+            case '+':
+                return line;
+            case '-':
+                throw new IOException("Redis error: " + line);
+            case ':':
+                return Long.parseLong(line);
+            case '$':
+                int length = Integer.parseInt(line);
+                if (length < 0) {
+                    return null;
+                }
+                byte[] bulk = in.readNBytes(length);
+                if (bulk.length < length) {
+                    throw new EOFException("Connection closed mid-reply");
+                }
+                readLine();
+                return new String(bulk, StandardCharsets.UTF_8);
+            case -1:
+                throw new EOFException("Connection closed");
+            default:
+                throw new IOException("Unsupported reply type: " + (char) type);
+        }
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b == -1) {
+                throw new EOFException("Connection closed");
+            }
+            line.write(b);
+        }
+        in.read();
+        return line.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
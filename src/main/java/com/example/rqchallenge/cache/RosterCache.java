@@ -0,0 +1,30 @@
+package com.example.rqchallenge.cache;
+
+/**
+ * Roster snapshot shared by every replica of the service, so the upstream's quota is spent
+ * once per refresh rather than once per node. Entries expire on their own after the
+ * configured TTL; whichever node then wins {@link #tryAcquireRefreshLease()} fetches the
+ * roster and {@link #put(CachedRoster) puts} it back for everyone.
+ */
+public interface RosterCache {
+
+    /**
+     * Fetch time of the shared roster, or 0 when there is none or it has expired. Cheap
+     * enough to call on every request, unlike {@link #get()}.
+     */
+    long stamp();
+
+    /**
+     * The shared roster, or null when there is none or it has expired.
+     */
+    CachedRoster get();
+
+    void put(CachedRoster roster);
+
+    /**
+     * Tries to become the node that refreshes the roster. The lease is never released; it
+     * lapses after a fixed period, which also keeps the other nodes from retrying a failed
+     * upstream call before then.
+     */
+    boolean tryAcquireRefreshLease();
+}
@@ -0,0 +1,32 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Upstream lookups of multi-gets. The queue is bounded and full submissions are rejected
+     * rather than queued, so one large batch cannot push every other request's lookups
+     * behind its own.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService employeeLookupExecutor(@Value("${api.multi-get.parallelism:8}") int parallelism,
+                                                  @Value("${api.multi-get.queue-capacity:128}") int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "employee-lookup-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.rqchallenge.config;
 
+import com.example.rqchallenge.deadline.DeadlineAwareRequestFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -8,7 +10,8 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(@Value("${api.upstream.connect-timeout-ms:2000}") int connectTimeoutMillis,
+                                     @Value("${api.upstream.read-timeout-ms:10000}") int readTimeoutMillis) {
+        return new RestTemplate(new DeadlineAwareRequestFactory(connectTimeoutMillis, readTimeoutMillis));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.example.rqchallenge.config;
+
+import com.example.rqchallenge.deadline.DeadlineInterceptor;
+import com.example.rqchallenge.ratelimit.RateLimitInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final DeadlineInterceptor deadlineInterceptor;
+
+    public WebConfig(RateLimitInterceptor rateLimitInterceptor, DeadlineInterceptor deadlineInterceptor) {
+        this.rateLimitInterceptor = rateLimitInterceptor;
+        this.deadlineInterceptor = deadlineInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns("/api/employees/**")
+                .excludePathPatterns("/api/employees/changes");
+        registry.addInterceptor(deadlineInterceptor)
+                .addPathPatterns("/api/employees/**")
+                .excludePathPatterns("/api/employees/changes");
+    }
+}
@@ -1,16 +1,28 @@
 package com.example.rqchallenge.controller;
 
+import com.example.rqchallenge.analytics.EmployeeFilter;
+import com.example.rqchallenge.dao.PendingWrite;
+import com.example.rqchallenge.deadline.RequestBudget;
 import com.example.rqchallenge.entities.Employee;
 import com.example.rqchallenge.exceptions.NotFoundException;
+import com.example.rqchallenge.response.EmployeeLookupResult;
+import com.example.rqchallenge.response.EmployeeSuggestions;
+import com.example.rqchallenge.response.SalaryBandSummary;
+import com.example.rqchallenge.service.EmployeeChangeFeed;
 import com.example.rqchallenge.service.EmployeeServiceInterface;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import java.util.List;
 import java.util.Map;
@@ -20,32 +32,81 @@ import java.util.Map;
 @Validated
 public class EmployeeController {
 
+    /**
+     * Binary encodings offered next to JSON for internal consumers of the bulk endpoints.
+     * Spring Boot registers the CBOR and Smile converters because their Jackson modules are
+     * on the classpath; JSON stays the default and is listed first.
+     */
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /** Set to {@code true} on suggestions whose fuzzy search gave up early, so better matches may exist. */
+    public static final String SUGGESTIONS_TRUNCATED_HEADER = "X-Suggestions-Truncated";
+
     private final EmployeeServiceInterface employeeService;
+    private final EmployeeChangeFeed employeeChangeFeed;
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
     @Autowired
-    public EmployeeController(EmployeeServiceInterface employeeService) {
+    public EmployeeController(EmployeeServiceInterface employeeService, EmployeeChangeFeed employeeChangeFeed) {
         this.employeeService = employeeService;
+        this.employeeChangeFeed = employeeChangeFeed;
     }
 
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     public List<Employee> getAllEmployees() {
         try {
             logger.info("Fetching all employees");
             return employeeService.getAllEmployees();
         } catch (Exception e) {
-            logger.error("Error fetching all employees: {}", e.getMessage());
+            logger.debug("Error fetching all employees: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @GetMapping(params = "ids", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public List<EmployeeLookupResult> getEmployeesByIds(@RequestParam List<String> ids) {
+        try {
+            if (ids.isEmpty()) {
+                throw new IllegalArgumentException("At least one id must be provided");
+            }
+            logger.info("Fetching employees by IDs: {}", ids);
+            return employeeService.getEmployeesByIds(ids);
+        } catch (Exception e) {
+            logger.debug("Error fetching employees by IDs {}: {}", ids, e.getMessage());
             throw e;
         }
     }
 
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEmployeeChanges() {
+        logger.info("Subscribing to employee change feed");
+        return employeeChangeFeed.subscribe();
+    }
+
     @GetMapping("/search/{searchString}")
-    public List<Employee> getEmployeesByNameSearch(@PathVariable @NotBlank String searchString) {
+    public List<Employee> getEmployeesByNameSearch(@PathVariable @NotBlank String searchString,
+                                                   @RequestParam(defaultValue = "false") boolean accentInsensitive) {
         try {
             logger.info("Searching employees by name: {}", searchString);
-            return employeeService.getEmployeesByNameSearch(searchString);
+            return employeeService.getEmployeesByNameSearch(searchString, accentInsensitive);
         } catch (Exception e) {
-            logger.error("Error searching employees by name {}: {}", searchString, e.getMessage());
+            logger.debug("Error searching employees by name {}: {}", searchString, e.getMessage());
+            throw e;
+        }
+    }
+
+    @GetMapping("/suggest")
+    @RequestBudget(millis = 1000)
+    public ResponseEntity<List<Employee>> suggestEmployeesByName(@RequestParam("q") @NotBlank String query,
+                                                                 @RequestParam(defaultValue = "0") @Min(0) @Max(2) int maxEdits,
+                                                                 @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit) {
+        try {
+            EmployeeSuggestions suggestions = employeeService.suggestEmployeesByName(query, maxEdits, limit);
+            return ResponseEntity.ok()
+                    .header(SUGGESTIONS_TRUNCATED_HEADER, String.valueOf(suggestions.isTruncated()))
+                    .body(suggestions.getData());
+        } catch (Exception e) {
+            logger.debug("Error suggesting employees for {}: {}", query, e.getMessage());
             throw e;
         }
     }
@@ -65,7 +126,7 @@ public class EmployeeController {
             logger.warn("Employee with ID {} not found", id);
             throw e;
         } catch (Exception e) {
-            logger.error("Error fetching employee with ID {}: {}", id, e.getMessage());
+            logger.debug("Error fetching employee with ID {}: {}", id, e.getMessage());
             throw e;
         }
     }
@@ -76,7 +137,7 @@ public class EmployeeController {
             logger.info("Fetching highest salary of employees");
             return employeeService.getHighestSalaryOfEmployees();
         } catch (Exception e) {
-            logger.error("Error fetching highest salary of employees: {}", e.getMessage());
+            logger.debug("Error fetching highest salary of employees: {}", e.getMessage());
             throw e;
         }
     }
@@ -87,7 +148,31 @@ public class EmployeeController {
             logger.info("Fetching top 10 highest earning employee names");
             return employeeService.getTop10HighestEarningEmployeeNames();
         } catch (Exception e) {
-            logger.error("Error fetching top 10 highest earning employee names: {}", e.getMessage());
+            logger.debug("Error fetching top 10 highest earning employee names: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @GetMapping("/analytics/age-bands")
+    public List<SalaryBandSummary> getSalaryBands(@RequestParam(defaultValue = "5") @Min(1) @Max(100) int top) {
+        try {
+            return employeeService.getSalaryBands(top);
+        } catch (Exception e) {
+            logger.debug("Error fetching salary summary per age band: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @GetMapping("/analytics/top-earners")
+    public List<Employee> getTopEarners(@RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit,
+                                        @RequestParam(required = false) @Min(0) Integer minAge,
+                                        @RequestParam(required = false) @Min(0) Integer maxAge,
+                                        @RequestParam(required = false) @Min(0) Integer minSalary,
+                                        @RequestParam(required = false) @Min(0) Integer maxSalary) {
+        try {
+            return employeeService.getTopEarners(new EmployeeFilter(minAge, maxAge, minSalary, maxSalary), limit);
+        } catch (Exception e) {
+            logger.debug("Error fetching top earners: {}", e.getMessage());
             throw e;
         }
     }
@@ -119,11 +204,16 @@ public class EmployeeController {
             logger.error("Error parsing salary or age: {}", e.getMessage());
             throw new IllegalArgumentException("Invalid salary or age format");
         } catch (Exception e) {
-            logger.error("Error creating employee: {}", e.getMessage());
+            logger.debug("Error creating employee: {}", e.getMessage());
             throw e;
         }
     }
 
+    @GetMapping("/pending")
+    public List<PendingWrite> getPendingWrites() {
+        return employeeService.getPendingWrites();
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public String deleteEmployeeById(@PathVariable @NotBlank String id) {
@@ -131,7 +221,7 @@ public class EmployeeController {
             logger.info("Deleting employee with ID: {}", id);
             return employeeService.deleteEmployee(id);
         } catch (Exception e) {
-            logger.error("Error deleting employee with ID {}: {}", id, e.getMessage());
+            logger.debug("Error deleting employee with ID {}: {}", id, e.getMessage());
             throw e;
         }
     }
@@ -1,16 +1,39 @@
 package com.example.rqchallenge.dao;
 
+import com.example.rqchallenge.cache.CachedRoster;
+import com.example.rqchallenge.cache.RosterCache;
+import com.example.rqchallenge.deadline.RequestDeadline;
 import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.exceptions.DeadlineExceededException;
+import com.example.rqchallenge.exceptions.ServiceUnavailableException;
 import com.example.rqchallenge.exceptions.TooManyRequestsException;
+import com.example.rqchallenge.exceptions.UpstreamException;
+import com.example.rqchallenge.logging.RateLimitedLogger;
+import com.example.rqchallenge.response.EmployeeLookupResult;
+import com.example.rqchallenge.response.EmployeeSuggestions;
 import com.example.rqchallenge.response.EmployeeResponse;
 import com.example.rqchallenge.response.EmployeeResponseSingle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.*;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Repository
@@ -19,81 +42,300 @@ public class EmployeeDAO implements EmployeeDAOInterface {
     @Value("${api.base-url}")
     private String BASE_URL;
 
+    @Value("${api.multi-get.timeout-ms:5000}")
+    private long multiGetTimeoutMillis;
+
+    @Value("${api.multi-get.max-ids:100}")
+    private int multiGetMaxIds;
+
+    @Value("${api.roster.cache.wait-ms:2000}")
+    private long rosterWaitMillis;
+
+    private static final long ROSTER_POLL_MILLIS = 50;
+
     private final RestTemplate restTemplate;
+    private final EmployeeRoster employeeRoster;
+    private final ExecutorService lookupExecutor;
+    private final RosterCache rosterCache;
+    private final PendingWrites pendingWrites;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final List<Consumer<CachedRoster>> rosterListeners = new CopyOnWriteArrayList<>();
+    private volatile ServedRoster servedRoster;
+    private volatile TooManyRequestsException upstreamRateLimited;
     private static final Logger logger = LoggerFactory.getLogger(EmployeeDAO.class);
+    private static final RateLimitedLogger upstreamErrors = new RateLimitedLogger(logger, Duration.ofSeconds(10));
 
-    public EmployeeDAO(RestTemplate restTemplate) {
+    public EmployeeDAO(RestTemplate restTemplate, EmployeeRoster employeeRoster,
+                       @Qualifier("employeeLookupExecutor") ExecutorService lookupExecutor, RosterCache rosterCache,
+                       PendingWrites pendingWrites) {
         this.restTemplate = restTemplate;
+        this.employeeRoster = employeeRoster;
+        this.lookupExecutor = lookupExecutor;
+        this.rosterCache = rosterCache;
+        this.pendingWrites = pendingWrites;
     }
 
+    /**
+     * Serves the roster from the {@link RosterCache} shared with the other replicas, and
+     * only goes upstream on the node holding the refresh lease. A node that already has a
+     * roster keeps serving it while the shared one is being refreshed, by another node or by
+     * another request on this node. Only a node that has never served a roster waits for the
+     * lease holder; if none shows up in time it tries for the lease itself and otherwise
+     * answers 503, so a slow refresh never turns into one upstream fetch per node. Creates
+     * and deletes not yet reflected upstream are applied on top, see {@link PendingWrites}.
+     */
     @Override
     public List<Employee> getAllEmployees() {
+        long stamp = rosterCache.stamp();
+        ServedRoster served = servedRoster;
+        if (stamp != 0 && served != null && served.upstream.getFetchedAt() == stamp) {
+            return served.employees;
+        }
+        if (served != null && !refreshLock.tryLock()) {
+            return served.employees;
+        }
+        if (served == null) {
+            lockForFirstRoster();
+        }
+        try {
+            ServedRoster latest = servedRoster;
+            if (latest != served) {
+                return latest.employees;
+            }
+            return refreshRoster(served == null ? rosterCache.stamp() : stamp, served);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private List<Employee> refreshRoster(long stamp, ServedRoster served) {
+        CachedRoster shared = stamp == 0 ? null : rosterCache.get();
+        if (shared == null) {
+            if (rosterCache.tryAcquireRefreshLease()) {
+                shared = fetchAndShare();
+            } else if (served != null) {
+                logger.debug("Shared roster is being refreshed, serving the one fetched at {}", served.upstream.getFetchedAt());
+                return served.employees;
+            } else {
+                shared = awaitSharedRoster();
+                if (shared == null && !rosterCache.tryAcquireRefreshLease()) {
+                    logger.warn("Shared roster was not refreshed in time and there is none to fall back on");
+                    throw new ServiceUnavailableException("Employee roster is being refreshed: Please try again later.");
+                }
+                if (shared == null) {
+                    shared = fetchAndShare();
+                }
+            }
+        }
+
+        CachedRoster upstream = new CachedRoster(shared.getFetchedAt(), employeeRoster.canonicalize(shared.getEmployees()));
+        List<Employee> employees = publish(upstream);
+        if (upstream.getEmployees() != null) {
+            rosterListeners.forEach(listener -> listener.accept(upstream));
+        }
+        return employees;
+    }
+
+    private CachedRoster fetchAndShare() {
+        CachedRoster fetched = new CachedRoster(System.currentTimeMillis(), fetchAllEmployees());
+        if (fetched.getEmployees() != null) {
+            rosterCache.put(fetched);
+        }
+        return fetched;
+    }
+
+    /**
+     * Waits for whoever is loading this node's first roster, for as long as the request
+     * deadline allows.
+     */
+    private void lockForFirstRoster() {
+        try {
+            if (refreshLock.tryLock(RequestDeadline.remainingMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        RequestDeadline.throwIfExceeded("waiting for the employee roster");
+        throw new ServiceUnavailableException("Employee roster is being refreshed: Please try again later.");
+    }
+
+    /**
+     * Registers {@code listener} to be called with each roster this node starts serving
+     * from the upstream or the shared cache, as confirmed by the upstream and without
+     * pending writes. Not called for a {@link #preload(CachedRoster) preloaded} roster.
+     * Listeners run on the request thread, so they must hand any slow work off.
+     */
+    public void addRosterListener(Consumer<CachedRoster> listener) {
+        rosterListeners.add(listener);
+    }
+
+    /**
+     * Seeds this node with a roster persisted by an earlier run, so it has something to
+     * fall back on before its first upstream or shared fetch. Ignored once a roster has
+     * been served.
+     */
+    public synchronized void preload(CachedRoster snapshot) {
+        if (servedRoster == null && snapshot.getEmployees() != null) {
+            publish(new CachedRoster(snapshot.getFetchedAt(), employeeRoster.canonicalize(snapshot.getEmployees())));
+        }
+    }
+
+    /**
+     * Reconciles the pending writes against {@code upstream} and only then publishes both
+     * together, so a reader never sees an upstream roster without its reconciled view.
+     */
+    private synchronized List<Employee> publish(CachedRoster upstream) {
+        List<Employee> reconciled = pendingWrites.reconcile(upstream);
+        List<Employee> employees = reconciled == null ? Collections.emptyList() : reconciled;
+        employeeRoster.update(employees);
+        servedRoster = new ServedRoster(upstream, employees);
+        return employees;
+    }
+
+    private CachedRoster awaitSharedRoster() {
+        long deadline = System.currentTimeMillis() + Math.min(rosterWaitMillis, RequestDeadline.remainingMillis());
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(ROSTER_POLL_MILLIS);
+                CachedRoster shared = rosterCache.stamp() == 0 ? null : rosterCache.get();
+                if (shared != null) {
+                    return shared;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private List<Employee> fetchAllEmployees() {
         String url = BASE_URL + "/employees";
+        RequestDeadline.throwIfExceeded("fetching all employees");
         try {
             EmployeeResponse response = restTemplate.getForObject(url, EmployeeResponse.class);
             return response.getData();
         } catch (HttpClientErrorException.TooManyRequests e) {
-            logger.error("Too Many Requests encountered while fetching all employees: {}", e.getMessage());
-            throw new TooManyRequestsException("Too Many Requests: Please try again later. " + BASE_URL + " allows 1 request per minute");
+            upstreamErrors.error("Too Many Requests encountered while fetching all employees: {}", e.getMessage());
+            throw upstreamRateLimited();
         } catch (ResourceAccessException e) {
-            logger.error("Network issue encountered while fetching all employees: {}", e.getMessage());
-            throw new RuntimeException("Network issue: Please check your connection.");
+            RequestDeadline.throwIfExceeded("fetching all employees");
+            upstreamErrors.error("Network issue encountered while fetching all employees: {}", e.getMessage());
+            throw UpstreamException.NETWORK_ISSUE;
         } catch (HttpServerErrorException e) {
-            logger.error("Server error encountered while fetching all employees: {}", e.getMessage());
-            throw new RuntimeException("Server error: Please try again later.");
+            upstreamErrors.error("Server error encountered while fetching all employees: {}", e.getMessage());
+            throw UpstreamException.SERVER_ERROR;
         } catch (Exception e) {
-            logger.error("Unexpected error encountered while fetching all employees: {}", e.getMessage());
-            throw new RuntimeException("Unexpected error: " + e.getMessage());
+            upstreamErrors.error("Unexpected error encountered while fetching all employees", e);
+            throw new UpstreamException("Unexpected error: " + e.getMessage(), e);
         }
     }
 
     @Override
-    public List<Employee> getEmployeesByNameSearch(String name) {
-        List<Employee> allEmployees = getAllEmployees();
-        return allEmployees.stream()
-                .filter(employee -> employee.getEmployeeName().toLowerCase().contains(name.toLowerCase()))
-                .collect(Collectors.toList());
+    public List<Employee> getEmployeesByNameSearch(String name, boolean accentInsensitive) {
+        getAllEmployees();
+        return employeeRoster.searchByName(name, accentInsensitive);
+    }
+
+    @Override
+    public EmployeeSuggestions suggestEmployeesByName(String query, int maxEdits, int limit) {
+        getAllEmployees();
+        return employeeRoster.suggestByName(query, maxEdits, limit);
     }
 
     @Override
     public Employee getEmployeeById(String id) {
+        PendingWrite pending = pendingWriteFor(id);
+        if (pending != null) {
+            return pending.getType() == PendingWrite.Type.CREATE ? pending.getEmployee() : null;
+        }
         String url = BASE_URL + "/employee/" + id;
+        RequestDeadline.throwIfExceeded("fetching employee by ID", id);
         try {
             EmployeeResponseSingle response = restTemplate.getForObject(url, EmployeeResponseSingle.class);
             return response.getData();
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
         } catch (HttpClientErrorException.TooManyRequests e) {
-            logger.error("Too Many Requests encountered while fetching employee by ID {}: {}", id, e.getMessage());
-            throw new TooManyRequestsException("Too Many Requests: Please try again later. " + BASE_URL + " allows 1 request per minute");
+            upstreamErrors.error("Too Many Requests encountered while fetching employee by ID {}: {}", id, e.getMessage());
+            throw upstreamRateLimited();
         } catch (ResourceAccessException e) {
-            logger.error("Network issue encountered while fetching employee by ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Network issue: Please check your connection.");
+            RequestDeadline.throwIfExceeded("fetching employee by ID", id);
+            upstreamErrors.error("Network issue encountered while fetching employee by ID {}: {}", id, e.getMessage());
+            throw UpstreamException.NETWORK_ISSUE;
         } catch (HttpServerErrorException e) {
-            logger.error("Server error encountered while fetching employee by ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Server error: Please try again later.");
+            upstreamErrors.error("Server error encountered while fetching employee by ID {}: {}", id, e.getMessage());
+            throw UpstreamException.SERVER_ERROR;
         } catch (Exception e) {
-            logger.error("Unexpected error encountered while fetching employee by ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Unexpected error: " + e.getMessage());
+            upstreamErrors.error("Unexpected error encountered while fetching employee by ID {}", id, e);
+            throw new UpstreamException("Unexpected error: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    public List<EmployeeLookupResult> getEmployeesByIds(List<String> ids) {
+        List<String> distinctIds = ids.stream().map(String::trim).distinct().collect(Collectors.toList());
+        if (distinctIds.size() > multiGetMaxIds) {
+            throw new IllegalArgumentException("At most " + multiGetMaxIds + " ids can be requested at once");
+        }
+
+        Map<String, EmployeeLookupResult> results = new LinkedHashMap<>();
+        Map<String, Future<Employee>> misses = new LinkedHashMap<>();
+        long timeoutMillis = Math.min(multiGetTimeoutMillis, RequestDeadline.remainingMillis());
+        for (String id : distinctIds) {
+            Employee cached = employeeRoster.findById(id);
+            if (cached != null) {
+                results.put(id, EmployeeLookupResult.found(id, cached));
+                continue;
+            }
+            try {
+                misses.put(id, lookupExecutor.submit(RequestDeadline.propagate(() -> getEmployeeById(id), timeoutMillis)));
+            } catch (RejectedExecutionException e) {
+                results.put(id, EmployeeLookupResult.failed(id, EmployeeLookupResult.Status.RATE_LIMITED,
+                        "Too many lookups in progress: Please try again later."));
+            }
+        }
+        logger.debug("Multi-get of {} ids: {} served locally, {} fetched upstream", distinctIds.size(), results.size(), misses.size());
+
+        // Lookups still running when the caller stops waiting are not cancelled: interrupts do
+        // not reach blocking socket reads, and their read timeouts already end at the same time.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Map.Entry<String, Future<Employee>> miss : misses.entrySet()) {
+            String id = miss.getKey();
+            Future<Employee> future = miss.getValue();
+            try {
+                Employee employee = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                results.put(id, employee == null
+                        ? EmployeeLookupResult.failed(id, EmployeeLookupResult.Status.NOT_FOUND, "Employee not found with ID " + id)
+                        : EmployeeLookupResult.found(id, employee));
+            } catch (TimeoutException e) {
+                results.put(id, EmployeeLookupResult.failed(id, EmployeeLookupResult.Status.TIMED_OUT, "Lookup did not complete in time"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.put(id, EmployeeLookupResult.failed(id, EmployeeLookupResult.Status.TIMED_OUT, "Lookup was interrupted"));
+            } catch (ExecutionException e) {
+                EmployeeLookupResult.Status status = e.getCause() instanceof TooManyRequestsException
+                        ? EmployeeLookupResult.Status.RATE_LIMITED
+                        : e.getCause() instanceof DeadlineExceededException
+                        ? EmployeeLookupResult.Status.TIMED_OUT
+                        : EmployeeLookupResult.Status.FAILED;
+                results.put(id, EmployeeLookupResult.failed(id, status, e.getCause().getMessage()));
+            }
+        }
+
+        return distinctIds.stream().map(results::get).collect(Collectors.toList());
+    }
+
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        List<Employee> allEmployees = getAllEmployees();
-        return allEmployees.stream()
-                .mapToInt(Employee::getEmployeeSalary)
-                .max()
-                .orElse(0);
+        getAllEmployees();
+        return employeeRoster.getHighestSalary();
     }
 
     @Override
     public List<String> getTop10HighestEarningEmployeeNames() {
-        List<Employee> allEmployees = getAllEmployees();
-        List<String> topNames = allEmployees.stream()
-                .sorted((a, b) -> b.getEmployeeSalary() - a.getEmployeeSalary())
-                .limit(10)
-                .map(Employee::getEmployeeName)
-                .collect(Collectors.toList());
-        return topNames;
+        getAllEmployees();
+        return employeeRoster.getTopEarnerNames(10);
     }
 
     @Override
@@ -110,43 +352,112 @@ public class EmployeeDAO implements EmployeeDAOInterface {
 
         String url = BASE_URL + "/create";
         Employee newEmployee = new Employee(name, salary, age);
+        RequestDeadline.throwIfExceeded("creating employee");
+        Employee created;
         try {
             EmployeeResponseSingle response = restTemplate.postForObject(url, newEmployee, EmployeeResponseSingle.class);
-            return response.getData();
+            created = response.getData();
         } catch (HttpClientErrorException.TooManyRequests e) {
-            logger.error("Too Many Requests encountered while creating employee: {}", e.getMessage());
-            throw new TooManyRequestsException("Too Many Requests: Please try again later. " + BASE_URL + " allows 1 request per minute");
+            upstreamErrors.error("Too Many Requests encountered while creating employee: {}", e.getMessage());
+            throw upstreamRateLimited();
         } catch (ResourceAccessException e) {
-            logger.error("Network issue encountered while creating employee: {}", e.getMessage());
-            throw new RuntimeException("Network issue: Please check your connection.");
+            RequestDeadline.throwIfExceeded("creating employee");
+            upstreamErrors.error("Network issue encountered while creating employee: {}", e.getMessage());
+            throw UpstreamException.NETWORK_ISSUE;
         } catch (HttpServerErrorException e) {
-            logger.error("Server error encountered while creating employee: {}", e.getMessage());
-            throw new RuntimeException("Server error: Please try again later.");
+            upstreamErrors.error("Server error encountered while creating employee: {}", e.getMessage());
+            throw UpstreamException.SERVER_ERROR;
         } catch (Exception e) {
-            logger.error("Unexpected error encountered while creating employee: {}", e.getMessage());
-            throw new RuntimeException("Unexpected error: " + e.getMessage());
+            upstreamErrors.error("Unexpected error encountered while creating employee", e);
+            throw new UpstreamException("Unexpected error: " + e.getMessage(), e);
         }
+        // The upstream has the employee by now, so a local failure must not turn into an error.
+        if (created != null && created.getId() != null) {
+            try {
+                pendingWrites.recordCreate(created);
+                refreshAppliedRoster();
+            } catch (RuntimeException e) {
+                logger.warn("Created employee with ID {} but could not show it before the next refresh", created.getId(), e);
+            }
+        }
+        return created;
     }
 
 
     @Override
     public String deleteEmployee(String id) {
         String url = BASE_URL + "/delete/" + id;
+        RequestDeadline.throwIfExceeded("deleting employee with ID", id);
         try {
             restTemplate.delete(url);
-            return "Employee with ID " + id + " deleted successfully.";
         } catch (HttpClientErrorException.TooManyRequests e) {
-            logger.error("Too Many Requests encountered while deleting employee with ID {}: {}", id, e.getMessage());
-            throw new TooManyRequestsException("Too Many Requests: Please try again later. " + BASE_URL + " allows 1 request per minute");
+            upstreamErrors.error("Too Many Requests encountered while deleting employee with ID {}: {}", id, e.getMessage());
+            throw upstreamRateLimited();
         } catch (ResourceAccessException e) {
-            logger.error("Network issue encountered while deleting employee with ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Network issue: Please check your connection.");
+            RequestDeadline.throwIfExceeded("deleting employee with ID", id);
+            upstreamErrors.error("Network issue encountered while deleting employee with ID {}: {}", id, e.getMessage());
+            throw UpstreamException.NETWORK_ISSUE;
         } catch (HttpServerErrorException e) {
-            logger.error("Server error encountered while deleting employee with ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Server error: Please try again later.");
+            upstreamErrors.error("Server error encountered while deleting employee with ID {}: {}", id, e.getMessage());
+            throw UpstreamException.SERVER_ERROR;
         } catch (Exception e) {
-            logger.error("Unexpected error encountered while deleting employee with ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Unexpected error: " + e.getMessage());
+            upstreamErrors.error("Unexpected error encountered while deleting employee with ID {}", id, e);
+            throw new UpstreamException("Unexpected error: " + e.getMessage(), e);
+        }
+        Integer deletedId = parseId(id);
+        if (deletedId != null) {
+            try {
+                pendingWrites.recordDelete(deletedId, employeeRoster.findById(id));
+                refreshAppliedRoster();
+            } catch (RuntimeException e) {
+                logger.warn("Deleted employee with ID {} but could not hide it before the next refresh", id, e);
+            }
+        }
+        return "Employee with ID " + id + " deleted successfully.";
+    }
+
+    @Override
+    public List<PendingWrite> getPendingWrites() {
+        return pendingWrites.getAll();
+    }
+
+    private synchronized void refreshAppliedRoster() {
+        ServedRoster served = servedRoster;
+        if (served != null) {
+            publish(served.upstream);
+        }
+    }
+
+    private PendingWrite pendingWriteFor(String id) {
+        Integer parsed = parseId(id);
+        return parsed == null ? null : pendingWrites.get(parsed);
+    }
+
+    private TooManyRequestsException upstreamRateLimited() {
+        TooManyRequestsException rateLimited = upstreamRateLimited;
+        if (rateLimited == null) {
+            rateLimited = new TooManyRequestsException("Too Many Requests: Please try again later. " + BASE_URL + " allows 1 request per minute");
+            upstreamRateLimited = rateLimited;
+        }
+        return rateLimited;
+    }
+
+    private static Integer parseId(String id) {
+        try {
+            return Integer.valueOf(id.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** The upstream roster this node last served, and the same roster with pending writes applied. */
+    private static final class ServedRoster {
+        private final CachedRoster upstream;
+        private final List<Employee> employees;
+
+        private ServedRoster(CachedRoster upstream, List<Employee> employees) {
+            this.upstream = upstream;
+            this.employees = employees;
         }
     }
 }
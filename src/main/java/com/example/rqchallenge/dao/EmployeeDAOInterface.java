@@ -1,6 +1,8 @@
 package com.example.rqchallenge.dao;
 
 import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.EmployeeLookupResult;
+import com.example.rqchallenge.response.EmployeeSuggestions;
 
 import java.util.List;
 
@@ -8,10 +10,14 @@ public interface EmployeeDAOInterface {
 
     List<Employee> getAllEmployees();
 
-    List<Employee> getEmployeesByNameSearch(String name);
+    List<Employee> getEmployeesByNameSearch(String name, boolean accentInsensitive);
+
+    EmployeeSuggestions suggestEmployeesByName(String query, int maxEdits, int limit);
 
     Employee getEmployeeById(String id);
 
+    List<EmployeeLookupResult> getEmployeesByIds(List<String> ids);
+
     Integer getHighestSalaryOfEmployees();
 
     List<String> getTop10HighestEarningEmployeeNames();
@@ -19,4 +25,6 @@ public interface EmployeeDAOInterface {
     Employee createEmployee(String name, int salary, int age);
 
     String deleteEmployee(String id);
+
+    List<PendingWrite> getPendingWrites();
 }
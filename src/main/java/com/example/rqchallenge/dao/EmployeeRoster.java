@@ -0,0 +1,349 @@
+package com.example.rqchallenge.dao;
+
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.EmployeeSuggestions;
+import com.example.rqchallenge.search.NameMatches;
+import com.example.rqchallenge.search.NameSearchIndex;
+import com.example.rqchallenge.search.NormalizedName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Last roster successfully fetched from the upstream, indexed by employee id.
+ * Lets lookups be served locally instead of costing an upstream round trip.
+ * <p>
+ * Every new snapshot is diffed against the previous one and the name index, the
+ * typeahead index and the salary ranking are updated from the added, removed and
+ * changed sets only. The updated map and indexes are built aside and published together,
+ * so readers always see all of them at the same version.
+ * Listeners are notified of each non-empty diff, in version order, on a dispatcher thread
+ * of their own, so a slow listener never holds up an update.
+ * <p>
+ * Freshly deserialized rosters can be passed through {@link #canonicalize(List)}
+ * first, so unchanged records keep reusing the instances already held here.
+ */
+@Component
+public class EmployeeRoster {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeRoster.class);
+
+    private static final Comparator<Employee> BY_SALARY_DESCENDING =
+            Comparator.comparingInt(EmployeeRoster::salaryOf).reversed().thenComparing(Employee::getId);
+
+    private static final Comparator<NormalizedName> BY_ID = Comparator.comparingInt(NormalizedName::getId);
+
+    private static final int MAX_PENDING_DIFFS = 1024;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile List<Employee> lastCanonicalRoster = Collections.emptyList();
+    private Map<String, String> heldStrings = Collections.emptyMap();
+
+    private final List<Consumer<RosterDiff>> listeners = new CopyOnWriteArrayList<>();
+    private final ThreadPoolExecutor listenerDispatcher = newListenerDispatcher();
+
+    /**
+     * Replaces every record equal to one already held with the held instance and
+     * deduplicates the strings of the rest against those of the held roster. When nothing
+     * changed since the last call the previously returned list itself is handed back, so
+     * repeated identical fetches leave nothing new reachable.
+     * <p>
+     * Strings are not {@link String#intern() interned}: upstream values are untrusted, and
+     * the table of held strings is rebuilt from each new roster, so it never holds more
+     * than the current roster's own names and profile images.
+     */
+    public synchronized List<Employee> canonicalize(List<Employee> employees) {
+        if (employees == null) {
+            return null;
+        }
+
+        Map<Integer, Employee> known = snapshot.employeesById;
+        List<Employee> previous = lastCanonicalRoster;
+        boolean sameAsPrevious = previous.size() == employees.size();
+        Map<String, String> freshStrings = new HashMap<>();
+        List<Employee> canonical = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            Employee existing = employee == null || employee.getId() == null ? null : known.get(employee.getId());
+            Employee resolved = existing != null && existing.equals(employee) ? existing : deduplicated(employee, freshStrings);
+            sameAsPrevious = sameAsPrevious && previous.get(i) == resolved;
+            canonical.add(resolved);
+        }
+
+        if (sameAsPrevious) {
+            return previous;
+        }
+        Map<String, String> strings = new HashMap<>(canonical.size() * 2);
+        for (Employee employee : canonical) {
+            if (employee != null) {
+                hold(strings, employee.getEmployeeName());
+                hold(strings, employee.getProfileImage());
+            }
+        }
+        heldStrings = strings;
+        lastCanonicalRoster = Collections.unmodifiableList(canonical);
+        return lastCanonicalRoster;
+    }
+
+    public synchronized RosterDiff update(List<Employee> employees) {
+        Snapshot previousSnapshot = snapshot;
+        if (employees == null) {
+            return RosterDiff.unchanged(previousSnapshot.version);
+        }
+
+        Map<Integer, Employee> previous = previousSnapshot.employeesById;
+        Map<Integer, Employee> current = new HashMap<>(employees.size() * 2);
+        List<Employee> added = new ArrayList<>();
+        List<Employee> changed = new ArrayList<>();
+        List<Employee> removed = new ArrayList<>();
+
+        for (Employee employee : employees) {
+            if (employee == null || employee.getId() == null || current.putIfAbsent(employee.getId(), employee) != null) {
+                continue;
+            }
+            Employee old = previous.get(employee.getId());
+            if (old == null) {
+                added.add(employee);
+            } else if (!old.equals(employee)) {
+                changed.add(employee);
+            }
+        }
+        for (Employee old : previous.values()) {
+            if (!current.containsKey(old.getId())) {
+                removed.add(old);
+            }
+        }
+
+        if (added.isEmpty() && changed.isEmpty() && removed.isEmpty()) {
+            return RosterDiff.unchanged(previousSnapshot.version);
+        }
+
+        Set<Integer> staleIds = new HashSet<>(removed.size() + changed.size());
+        removed.forEach(employee -> staleIds.add(employee.getId()));
+        changed.forEach(employee -> staleIds.add(employee.getId()));
+        List<Employee> fresh = new ArrayList<>(changed);
+        fresh.addAll(added);
+        List<NormalizedName> freshNames = new ArrayList<>(fresh.size());
+        for (Employee employee : fresh) {
+            freshNames.add(new NormalizedName(employee.getId(), employee.getEmployeeName()));
+        }
+        freshNames.sort(BY_ID);
+        fresh.sort(BY_SALARY_DESCENDING);
+
+        RosterDiff diff = new RosterDiff(previousSnapshot.version + 1, added, removed, changed);
+        snapshot = new Snapshot(diff.getVersion(), Collections.unmodifiableMap(current),
+                merge(previousSnapshot.normalizedNames, NormalizedName::getId, staleIds, freshNames, BY_ID),
+                merge(previousSnapshot.salaryRanking, Employee::getId, staleIds, fresh, BY_SALARY_DESCENDING),
+                previousSnapshot.nameSearchIndex.apply(staleIds, fresh));
+        logger.debug("Roster updated: {}", diff);
+        dispatch(diff);
+        return diff;
+    }
+
+    public void addListener(Consumer<RosterDiff> listener) {
+        listeners.add(listener);
+    }
+
+    public Employee findById(String id) {
+        try {
+            return snapshot.employeesById.get(Integer.valueOf(id.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Employees whose name contains {@code name}, ignoring case and, when
+     * {@code accentInsensitive} is set, diacritics. Only the query is folded here; the
+     * names were folded when they were indexed.
+     * <p>
+     * Matches come back in ascending id order, the order the folded names are kept in, not
+     * in the order the upstream listed them. That order stays the same across refreshes
+     * and for employees created locally but not yet confirmed by the upstream.
+     */
+    public List<Employee> searchByName(String name, boolean accentInsensitive) {
+        String needle = NormalizedName.prepare(name, accentInsensitive);
+        Snapshot current = snapshot;
+        List<Employee> matches = new ArrayList<>();
+        for (NormalizedName normalizedName : current.normalizedNames) {
+            if (normalizedName.contains(needle, accentInsensitive)) {
+                Employee employee = current.employeesById.get(normalizedName.getId());
+                if (employee != null) {
+                    matches.add(employee);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Typeahead lookup: prefix matches when {@code maxEdits} is 0, otherwise matches within
+     * {@code maxEdits} edits of the query, ranked by relevance.
+     */
+    public EmployeeSuggestions suggestByName(String query, int maxEdits, int limit) {
+        Snapshot current = snapshot;
+        NameSearchIndex index = current.nameSearchIndex;
+        NameMatches fuzzy = maxEdits == 0 ? null : index.fuzzy(query, maxEdits, limit);
+        List<Integer> ids = fuzzy == null ? index.prefix(query, limit) : fuzzy.getIds();
+        List<Employee> matches = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Employee employee = current.employeesById.get(id);
+            if (employee != null) {
+                matches.add(employee);
+            }
+        }
+        return new EmployeeSuggestions(matches, fuzzy != null && fuzzy.isTruncated());
+    }
+
+    public Integer getHighestSalary() {
+        List<Employee> ranking = snapshot.salaryRanking;
+        return ranking.isEmpty() ? 0 : salaryOf(ranking.get(0));
+    }
+
+    public List<String> getTopEarnerNames(int limit) {
+        List<Employee> ranking = snapshot.salaryRanking;
+        List<String> names = new ArrayList<>(Math.min(limit, ranking.size()));
+        for (int i = 0; i < limit && i < ranking.size(); i++) {
+            names.add(ranking.get(i).getEmployeeName());
+        }
+        return names;
+    }
+
+    public List<Employee> getEmployees() {
+        return new ArrayList<>(snapshot.employeesById.values());
+    }
+
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    public int size() {
+        return snapshot.employeesById.size();
+    }
+
+    private void dispatch(RosterDiff diff) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        try {
+            listenerDispatcher.execute(() -> {
+                for (Consumer<RosterDiff> listener : listeners) {
+                    try {
+                        listener.accept(diff);
+                    } catch (RuntimeException e) {
+                        logger.warn("Roster listener failed for version {}: {}", diff.getVersion(), e.getMessage());
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("Roster listeners are {} diffs behind, dropping the diff of version {}", MAX_PENDING_DIFFS, diff.getVersion());
+        }
+    }
+
+    /**
+     * Keeps the entries of {@code kept} whose id is not stale and merges {@code fresh} into
+     * them. Both lists are in {@code order}, so this is linear and never re-sorts the roster.
+     */
+    private static <T> List<T> merge(List<T> kept, Function<T, Integer> idOf, Set<Integer> staleIds, List<T> fresh,
+                                     Comparator<T> order) {
+        List<T> merged = new ArrayList<>(kept.size() + fresh.size());
+        int f = 0;
+        for (T entry : kept) {
+            if (staleIds.contains(idOf.apply(entry))) {
+                continue;
+            }
+            while (f < fresh.size() && order.compare(fresh.get(f), entry) < 0) {
+                merged.add(fresh.get(f++));
+            }
+            merged.add(entry);
+        }
+        while (f < fresh.size()) {
+            merged.add(fresh.get(f++));
+        }
+        return Collections.unmodifiableList(merged);
+    }
+
+    /** One listener thread, started on demand and stopped when idle, delivering diffs in order. */
+    private static ThreadPoolExecutor newListenerDispatcher() {
+        ThreadPoolExecutor dispatcher = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_PENDING_DIFFS), runnable -> {
+                    Thread thread = new Thread(runnable, "roster-listeners");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        dispatcher.allowCoreThreadTimeOut(true);
+        return dispatcher;
+    }
+
+    private Employee deduplicated(Employee employee, Map<String, String> freshStrings) {
+        if (employee == null) {
+            return null;
+        }
+        String name = deduplicated(employee.getEmployeeName(), freshStrings);
+        String profileImage = deduplicated(employee.getProfileImage(), freshStrings);
+        if (name == employee.getEmployeeName() && profileImage == employee.getProfileImage()) {
+            return employee;
+        }
+        return new Employee(employee.getId(), name, employee.getEmployeeSalary(), employee.getEmployeeAge(), profileImage);
+    }
+
+    /** The copy of {@code value} held by the roster, or else the first one seen in this fetch. */
+    private String deduplicated(String value, Map<String, String> freshStrings) {
+        if (value == null) {
+            return null;
+        }
+        String held = heldStrings.get(value);
+        if (held != null) {
+            return held;
+        }
+        String seen = freshStrings.putIfAbsent(value, value);
+        return seen == null ? value : seen;
+    }
+
+    private static void hold(Map<String, String> strings, String value) {
+        if (value != null) {
+            strings.putIfAbsent(value, value);
+        }
+    }
+
+    private static int salaryOf(Employee employee) {
+        return employee.getEmployeeSalary() == null ? 0 : employee.getEmployeeSalary();
+    }
+
+    /** Everything readers see of one roster version, published with a single write. */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(0, Collections.emptyMap(), Collections.emptyList(),
+                Collections.emptyList(), NameSearchIndex.EMPTY);
+
+        private final long version;
+        private final Map<Integer, Employee> employeesById;
+        private final List<NormalizedName> normalizedNames;
+        private final List<Employee> salaryRanking;
+        private final NameSearchIndex nameSearchIndex;
+
+        private Snapshot(long version, Map<Integer, Employee> employeesById, List<NormalizedName> normalizedNames,
+                         List<Employee> salaryRanking, NameSearchIndex nameSearchIndex) {
+            this.version = version;
+            this.employeesById = employeesById;
+            this.normalizedNames = normalizedNames;
+            this.salaryRanking = salaryRanking;
+            this.nameSearchIndex = nameSearchIndex;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.rqchallenge.dao;
+
+import com.example.rqchallenge.entities.Employee;
+
+/**
+ * A create or delete the upstream has accepted but no roster snapshot has reflected yet.
+ */
+public class PendingWrite {
+
+    public enum Type {
+        CREATE,
+        DELETE
+    }
+
+    private final int id;
+    private final Type type;
+    private final Employee employee;
+    private final long requestedAt;
+
+    PendingWrite(int id, Type type, Employee employee, long requestedAt) {
+        this.id = id;
+        this.type = type;
+        this.employee = employee;
+        this.requestedAt = requestedAt;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * The created employee, or for a delete the employee as last seen here, if it was known.
+     */
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public long getRequestedAt() {
+        return requestedAt;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.rqchallenge.dao;
+
+import com.example.rqchallenge.cache.CachedRoster;
+import com.example.rqchallenge.entities.Employee;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates and deletes applied to this node's roster before the upstream's roster shows them,
+ * so a client reads its own writes without re-fetching.
+ * <p>
+ * Each upstream snapshot is reconciled against them: a write the snapshot reflects is
+ * confirmed and dropped, and one still missing from a snapshot taken more than
+ * {@code grace-ms} after it was requested is rolled back. Snapshots taken before a write
+ * can say nothing about it, so it stays applied on top of them.
+ */
+@Component
+public class PendingWrites {
+
+    private final long graceMillis;
+    private final Map<Integer, PendingWrite> pending = new LinkedHashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(PendingWrites.class);
+
+    public PendingWrites(@Value("${api.pending-writes.grace-ms:120000}") long graceMillis) {
+        this.graceMillis = graceMillis;
+    }
+
+    public synchronized void recordCreate(Employee employee) {
+        pending.put(employee.getId(), new PendingWrite(employee.getId(), PendingWrite.Type.CREATE, employee, System.currentTimeMillis()));
+    }
+
+    public synchronized void recordDelete(int id, Employee lastKnown) {
+        pending.put(id, new PendingWrite(id, PendingWrite.Type.DELETE, lastKnown, System.currentTimeMillis()));
+    }
+
+    /**
+     * The pending write for {@code id}, or null.
+     */
+    public synchronized PendingWrite get(int id) {
+        return pending.get(id);
+    }
+
+    public synchronized List<PendingWrite> getAll() {
+        return new ArrayList<>(pending.values());
+    }
+
+    /**
+     * Settles what {@code snapshot} confirms or refutes and returns its employees with the
+     * remaining writes applied. Returns the snapshot's own list when nothing is pending.
+     */
+    public synchronized List<Employee> reconcile(CachedRoster snapshot) {
+        List<Employee> employees = snapshot.getEmployees();
+        if (pending.isEmpty() || employees == null) {
+            return employees;
+        }
+
+        Set<Integer> upstreamIds = new HashSet<>(employees.size() * 2);
+        for (Employee employee : employees) {
+            if (employee != null && employee.getId() != null) {
+                upstreamIds.add(employee.getId());
+            }
+        }
+        for (Iterator<PendingWrite> it = pending.values().iterator(); it.hasNext(); ) {
+            PendingWrite write = it.next();
+            if (snapshot.getFetchedAt() < write.getRequestedAt()) {
+                continue;
+            }
+            boolean reflected = upstreamIds.contains(write.getId()) == (write.getType() == PendingWrite.Type.CREATE);
+            if (reflected) {
+                logger.info("Upstream confirmed {} of employee {}", write.getType(), write.getId());
+                it.remove();
+            } else if (snapshot.getFetchedAt() - write.getRequestedAt() > graceMillis) {
+                logger.warn("Rolling back {} of employee {}: upstream has not reflected it after {} ms",
+                        write.getType(), write.getId(), snapshot.getFetchedAt() - write.getRequestedAt());
+                it.remove();
+            }
+        }
+        if (pending.isEmpty()) {
+            return employees;
+        }
+
+        List<Employee> applied = new ArrayList<>(employees.size() + pending.size());
+        for (Employee employee : employees) {
+            PendingWrite write = employee == null || employee.getId() == null ? null : pending.get(employee.getId());
+            if (write == null) {
+                applied.add(employee);
+            }
+        }
+        for (PendingWrite write : pending.values()) {
+            if (write.getType() == PendingWrite.Type.CREATE) {
+                applied.add(write.getEmployee());
+            }
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.rqchallenge.dao;
+
+import com.example.rqchallenge.entities.Employee;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Difference between two consecutive roster snapshots, keyed by employee id.
+ * {@code changed} holds the new version of every employee whose fields differ.
+ */
+public class RosterDiff {
+
+    private final long version;
+    private final List<Employee> added;
+    private final List<Employee> removed;
+    private final List<Employee> changed;
+
+    public RosterDiff(long version, List<Employee> added, List<Employee> removed, List<Employee> changed) {
+        this.version = version;
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.changed = Collections.unmodifiableList(changed);
+    }
+
+    public static RosterDiff unchanged(long version) {
+        return new RosterDiff(version, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    public long getVersion() { return version; }
+
+    public List<Employee> getAdded() { return added; }
+
+    public List<Employee> getRemoved() { return removed; }
+
+    public List<Employee> getChanged() { return changed; }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "RosterDiff{version=" + version + ", added=" + added.size()
+                + ", removed=" + removed.size() + ", changed=" + changed.size() + "}";
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.rqchallenge.deadline;
+
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+
+/**
+ * Gives each upstream connection no more time than the calling request has left. The
+ * read timeout bounds each read rather than the whole exchange, so callers still check
+ * {@link RequestDeadline} once the call returns or fails.
+ */
+public class DeadlineAwareRequestFactory extends SimpleClientHttpRequestFactory {
+
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+
+    public DeadlineAwareRequestFactory(int connectTimeoutMillis, int readTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+        setConnectTimeout(connectTimeoutMillis);
+        setReadTimeout(readTimeoutMillis);
+    }
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+        long remaining = RequestDeadline.remainingMillis();
+        if (remaining == 0) {
+            throw new SocketTimeoutException("Request deadline passed before calling " + connection.getURL());
+        }
+        connection.setConnectTimeout(bounded(connectTimeoutMillis, remaining));
+        connection.setReadTimeout(bounded(readTimeoutMillis, remaining));
+    }
+
+    private static int bounded(int configuredMillis, long remainingMillis) {
+        long limit = configuredMillis > 0 ? Math.min(configuredMillis, remainingMillis) : remainingMillis;
+        return (int) Math.min(limit, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.rqchallenge.deadline;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Starts the {@link RequestDeadline} of each request: the client's own budget from the
+ * deadline header, capped at {@code max-ms}, or else the endpoint's {@link RequestBudget}
+ * or the configured default.
+ */
+@Component
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    @Value("${api.deadline.header:X-Request-Timeout-Ms}")
+    private String deadlineHeader;
+
+    @Value("${api.deadline.default-ms:10000}")
+    private long defaultBudgetMillis;
+
+    @Value("${api.deadline.max-ms:30000}")
+    private long maxBudgetMillis;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.start(budgetMillis(request, handler));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+
+    private long budgetMillis(HttpServletRequest request, Object handler) {
+        String requested = request.getHeader(deadlineHeader);
+        if (requested != null && !requested.isBlank()) {
+            try {
+                long millis = Long.parseLong(requested.trim());
+                if (millis > 0) {
+                    return Math.min(millis, maxBudgetMillis);
+                }
+            } catch (NumberFormatException e) {
+                // fall through to the error below
+            }
+            throw new IllegalArgumentException(deadlineHeader + " must be a positive number of milliseconds");
+        }
+        if (handler instanceof HandlerMethod) {
+            RequestBudget budget = ((HandlerMethod) handler).getMethodAnnotation(RequestBudget.class);
+            if (budget != null) {
+                return budget.millis();
+            }
+        }
+        return defaultBudgetMillis;
+    }
+}
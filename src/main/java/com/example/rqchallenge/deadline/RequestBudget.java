@@ -0,0 +1,19 @@
+package com.example.rqchallenge.deadline;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Default time budget of a controller endpoint, used when the client sends no deadline
+ * header of its own. Endpoints without it get {@code api.deadline.default-ms}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RequestBudget {
+
+    long millis();
+}
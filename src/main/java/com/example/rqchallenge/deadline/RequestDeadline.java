@@ -0,0 +1,96 @@
+package com.example.rqchallenge.deadline;
+
+import com.example.rqchallenge.exceptions.DeadlineExceededException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline of the request being served on the current thread, installed by
+ * {@link DeadlineInterceptor} and read wherever work can be cut short: before upstream
+ * calls, by {@link DeadlineAwareRequestFactory} for socket timeouts, and while waiting on
+ * other threads. Threads without a deadline behave as if they had unlimited time.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(long budgetMillis) {
+        DEADLINE_NANOS.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /**
+     * Milliseconds left, rounded up so that any time left reads as at least 1; 0 once the
+     * deadline has passed and {@link Long#MAX_VALUE} when there is none.
+     */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        long remainingNanos = deadline - System.nanoTime();
+        return remainingNanos <= 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(remainingNanos + 999_999);
+    }
+
+    public static boolean isExceeded() {
+        return remainingMillis() == 0;
+    }
+
+    public static void throwIfExceeded(String operation) {
+        if (isExceeded()) {
+            throw new DeadlineExceededException("Deadline exceeded: Gave up " + operation);
+        }
+    }
+
+    /**
+     * Like {@link #throwIfExceeded(String)} for an operation on one {@code subject}, such as
+     * an employee id; the message is only built once the deadline has passed.
+     */
+    public static void throwIfExceeded(String operation, Object subject) {
+        if (isExceeded()) {
+            throw new DeadlineExceededException("Deadline exceeded: Gave up " + operation + " " + subject);
+        }
+    }
+
+    /**
+     * Wraps {@code task} to run under the current thread's deadline on whichever thread
+     * executes it.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? task : runUnder(task, deadline);
+    }
+
+    /**
+     * Like {@link #propagate(Callable)}, but the task also gives up {@code budgetMillis} from
+     * now if that comes first, so its socket timeouts expire when its caller stops waiting.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task, long budgetMillis) {
+        long budgetDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        Long deadline = DEADLINE_NANOS.get();
+        return runUnder(task, deadline == null || budgetDeadline - deadline < 0 ? budgetDeadline : deadline);
+    }
+
+    private static <T> Callable<T> runUnder(Callable<T> task, long deadline) {
+        return () -> {
+            Long previous = DEADLINE_NANOS.get();
+            DEADLINE_NANOS.set(deadline);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    DEADLINE_NANOS.remove();
+                } else {
+                    DEADLINE_NANOS.set(previous);
+                }
+            }
+        };
+    }
+}
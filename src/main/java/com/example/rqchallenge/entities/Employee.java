@@ -1,53 +1,67 @@
 package com.example.rqchallenge.entities;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.example.rqchallenge.json.EmployeeJson;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.Objects;
+
+/**
+ * An upstream employee record. Immutable so instances can be shared across roster
+ * snapshots; its JSON field names and binding live in {@link EmployeeJson}.
+ */
+@JsonDeserialize(using = EmployeeJson.Deserializer.class)
+@JsonSerialize(using = EmployeeJson.Serializer.class)
 public class Employee {
 
-    @JsonProperty("id")
-    private Integer id;
-
-    @JsonProperty("employee_name")
-    private String employeeName;
-
-    @JsonProperty("employee_salary")
-    private Integer employeeSalary;
-
-    @JsonProperty("employee_age")
-    private Integer employeeAge;
-
-    @JsonProperty("profile_image")
-    private String profileImage;
-
+    private final Integer id;
+    private final String employeeName;
+    private final Integer employeeSalary;
+    private final Integer employeeAge;
+    private final String profileImage;
 
-    public Employee() {}
     public Employee(String name, int salary, int age) {
-        this.employeeName = name;
-        this.employeeSalary = salary;
-        this.employeeAge = age;
+        this(null, name, salary, age, null);
     }
 
     public Employee(int id, String name, int salary, int age) {
+        this(id, name, salary, age, null);
+    }
+
+    public Employee(Integer id, String employeeName, Integer employeeSalary, Integer employeeAge, String profileImage) {
         this.id = id;
-        this.employeeName = name;
-        this.employeeSalary = salary;
-        this.employeeAge = age;
+        this.employeeName = employeeName;
+        this.employeeSalary = employeeSalary;
+        this.employeeAge = employeeAge;
+        this.profileImage = profileImage;
     }
 
 
 
     public Integer getId() { return id; }
-    public void setId(int id) { this.id = id; }
 
     public String getEmployeeName() { return employeeName; }
-    public void setEmployeeName(String employeeName) { this.employeeName = employeeName; }
 
     public Integer getEmployeeSalary() { return employeeSalary; }
-    public void setEmployeeSalary(Integer employeeSalary) { this.employeeSalary = employeeSalary; }
 
     public Integer getEmployeeAge() { return employeeAge; }
-    public void setEmployeeAge(Integer employeeAge) { this.employeeAge = employeeAge; }
 
     public String getProfileImage() { return profileImage; }
-    public void setProfileImage(String profileImage) { this.profileImage = profileImage; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Employee)) return false;
+        Employee other = (Employee) o;
+        return Objects.equals(id, other.id)
+                && Objects.equals(employeeName, other.employeeName)
+                && Objects.equals(employeeSalary, other.employeeSalary)
+                && Objects.equals(employeeAge, other.employeeAge)
+                && Objects.equals(profileImage, other.profileImage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, employeeName, employeeSalary, employeeAge, profileImage);
+    }
 }
\ No newline at end of file
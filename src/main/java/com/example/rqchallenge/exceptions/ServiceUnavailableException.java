@@ -0,0 +1,11 @@
+package com.example.rqchallenge.exceptions;
+
+/**
+ * Raised when load is shed; like {@link TooManyRequestsException} it is expected under
+ * pressure and carries no stack trace.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+}
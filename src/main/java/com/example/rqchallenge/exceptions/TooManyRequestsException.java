@@ -1,7 +1,11 @@
 package com.example.rqchallenge.exceptions;
 
+/**
+ * Expected whenever a client or the upstream is over its quota, so it is built without a
+ * stack trace; the message says everything the handler needs.
+ */
 public class TooManyRequestsException extends RuntimeException {
     public TooManyRequestsException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-}
\ No newline at end of file
+}
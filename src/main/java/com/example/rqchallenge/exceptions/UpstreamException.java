@@ -0,0 +1,22 @@
+package com.example.rqchallenge.exceptions;
+
+/**
+ * Failure calling the upstream API. Expected failures come in bursts whenever the upstream
+ * is down, and their stack trace would only ever point at the DAO, so none is captured.
+ * Failures with a fixed message share one preallocated instance; suppression is disabled,
+ * so the shared instances never change. Unexpected failures are rare and all there is to
+ * go on, so they keep their stack trace and cause.
+ */
+public class UpstreamException extends RuntimeException {
+
+    public static final UpstreamException NETWORK_ISSUE = new UpstreamException("Network issue: Please check your connection.");
+    public static final UpstreamException SERVER_ERROR = new UpstreamException("Server error: Please try again later.");
+
+    public UpstreamException(String message) {
+        super(message, null, false, false);
+    }
+
+    public UpstreamException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
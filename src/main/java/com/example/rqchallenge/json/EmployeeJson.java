@@ -0,0 +1,239 @@
+package com.example.rqchallenge.json;
+
+import com.example.rqchallenge.entities.Employee;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming JSON binding for {@link Employee}. The upstream sends numbers as strings
+ * ("320800"); they are parsed straight from the parser's character buffer instead of
+ * going through an intermediate {@code String} and reflective coercion. Field names are
+ * written from pre-encoded {@link SerializedString}s, as Jackson's bean serializers do.
+ */
+public final class EmployeeJson {
+
+    static final String ID = "id";
+    static final String EMPLOYEE_NAME = "employee_name";
+    static final String EMPLOYEE_SALARY = "employee_salary";
+    static final String EMPLOYEE_AGE = "employee_age";
+    static final String PROFILE_IMAGE = "profile_image";
+
+    private static final SerializableString ID_NAME = new SerializedString(ID);
+    private static final SerializableString EMPLOYEE_NAME_NAME = new SerializedString(EMPLOYEE_NAME);
+    private static final SerializableString EMPLOYEE_SALARY_NAME = new SerializedString(EMPLOYEE_SALARY);
+    private static final SerializableString EMPLOYEE_AGE_NAME = new SerializedString(EMPLOYEE_AGE);
+    private static final SerializableString PROFILE_IMAGE_NAME = new SerializedString(PROFILE_IMAGE);
+
+    private EmployeeJson() {
+    }
+
+    public static class Deserializer extends StdDeserializer<Employee> {
+
+        public Deserializer() {
+            super(Employee.class);
+        }
+
+        @Override
+        public Employee deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return readEmployee(p, ctxt);
+        }
+    }
+
+    public static class Serializer extends StdSerializer<Employee> {
+
+        public Serializer() {
+            super(Employee.class);
+        }
+
+        @Override
+        public void serialize(Employee employee, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeEmployee(employee, gen);
+        }
+    }
+
+    static Employee readEmployee(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (Employee) ctxt.handleUnexpectedToken(Employee.class, p);
+        }
+
+        Integer id = null;
+        String name = null;
+        Integer salary = null;
+        Integer age = null;
+        String profileImage = null;
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case ID:
+                    id = readInteger(p, ctxt);
+                    break;
+                case EMPLOYEE_NAME:
+                    name = readString(p, ctxt);
+                    break;
+                case EMPLOYEE_SALARY:
+                    salary = readInteger(p, ctxt);
+                    break;
+                case EMPLOYEE_AGE:
+                    age = readInteger(p, ctxt);
+                    break;
+                case PROFILE_IMAGE:
+                    profileImage = readString(p, ctxt);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new Employee(id, name, salary, age, profileImage);
+    }
+
+    static List<Employee> readEmployees(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            ctxt.handleUnexpectedToken(List.class, p);
+            return null;
+        }
+        List<Employee> employees = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            employees.add(readEmployee(p, ctxt));
+        }
+        return employees;
+    }
+
+    static void writeEmployee(Employee employee, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeInteger(gen, ID_NAME, employee.getId());
+        writeString(gen, EMPLOYEE_NAME_NAME, employee.getEmployeeName());
+        writeInteger(gen, EMPLOYEE_SALARY_NAME, employee.getEmployeeSalary());
+        writeInteger(gen, EMPLOYEE_AGE_NAME, employee.getEmployeeAge());
+        writeString(gen, PROFILE_IMAGE_NAME, employee.getProfileImage());
+        gen.writeEndObject();
+    }
+
+    static void writeEmployees(List<Employee> employees, JsonGenerator gen) throws IOException {
+        gen.writeStartArray();
+        for (Employee employee : employees) {
+            if (employee == null) {
+                gen.writeNull();
+            } else {
+                writeEmployee(employee, gen);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    /** Scalars are read as text; objects and arrays are rejected rather than read as fields. */
+    static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentToken()) {
+            case VALUE_NULL:
+                return null;
+            case START_OBJECT:
+            case START_ARRAY:
+                return (String) ctxt.handleUnexpectedToken(String.class, p);
+            default:
+                return p.getValueAsString();
+        }
+    }
+
+    static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentToken()) {
+            case VALUE_NUMBER_INT:
+                return p.getIntValue();
+            case VALUE_NUMBER_FLOAT:
+                return integralValue(p, ctxt);
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return parseInteger(p, ctxt, p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            default:
+                return (Integer) ctxt.handleUnexpectedToken(Integer.class, p);
+        }
+    }
+
+    /** Accepts floats only when they are whole numbers in int range, such as {@code 320800.0}. */
+    private static Integer integralValue(JsonParser p, DeserializationContext ctxt) throws IOException {
+        double value = p.getDoubleValue();
+        if (value != Math.rint(value)) {
+            throw ctxt.weirdNumberException(value, Integer.class, "not a whole number");
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw ctxt.weirdNumberException(value, Integer.class, "overflows int");
+        }
+        return (int) value;
+    }
+
+    private static Integer parseInteger(JsonParser p, DeserializationContext ctxt,
+                                        char[] chars, int offset, int length) throws IOException {
+        int start = offset;
+        int end = offset + length;
+        while (start < end && Character.isWhitespace(chars[start])) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(chars[end - 1])) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        boolean negative = chars[start] == '-';
+        int i = negative || chars[start] == '+' ? start + 1 : start;
+        if (i == end) {
+            throw ctxt.weirdStringException(new String(chars, offset, length), Integer.class, "not a valid integer");
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw ctxt.weirdStringException(new String(chars, offset, length), Integer.class, "not a valid integer");
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw ctxt.weirdStringException(new String(chars, offset, length), Integer.class, "overflows int");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw ctxt.weirdStringException(new String(chars, offset, length), Integer.class, "overflows int");
+        }
+        return (int) value;
+    }
+
+    private static void writeInteger(JsonGenerator gen, SerializableString field, Integer value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString field, String value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+}
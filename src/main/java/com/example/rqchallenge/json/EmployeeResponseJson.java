@@ -0,0 +1,125 @@
+package com.example.rqchallenge.json;
+
+import com.example.rqchallenge.response.EmployeeResponse;
+import com.example.rqchallenge.response.EmployeeResponseSingle;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Streaming JSON binding for the upstream {@code {"status": ..., "data": ...}} envelopes,
+ * delegating the payload to {@link EmployeeJson}.
+ */
+public final class EmployeeResponseJson {
+
+    static final String STATUS = "status";
+    static final String DATA = "data";
+
+    private EmployeeResponseJson() {
+    }
+
+    public static class ListDeserializer extends StdDeserializer<EmployeeResponse> {
+
+        public ListDeserializer() {
+            super(EmployeeResponse.class);
+        }
+
+        @Override
+        public EmployeeResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            EmployeeResponse response = new EmployeeResponse();
+            for (JsonToken token = firstField(p, ctxt, EmployeeResponse.class); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String field = p.currentName();
+                p.nextToken();
+                if (STATUS.equals(field)) {
+                    response.setStatus(EmployeeJson.readString(p, ctxt));
+                } else if (DATA.equals(field)) {
+                    response.setData(EmployeeJson.readEmployees(p, ctxt));
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return response;
+        }
+    }
+
+    public static class ListSerializer extends StdSerializer<EmployeeResponse> {
+
+        public ListSerializer() {
+            super(EmployeeResponse.class);
+        }
+
+        @Override
+        public void serialize(EmployeeResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField(STATUS, response.getStatus());
+            gen.writeFieldName(DATA);
+            if (response.getData() == null) {
+                gen.writeNull();
+            } else {
+                EmployeeJson.writeEmployees(response.getData(), gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    public static class SingleDeserializer extends StdDeserializer<EmployeeResponseSingle> {
+
+        public SingleDeserializer() {
+            super(EmployeeResponseSingle.class);
+        }
+
+        @Override
+        public EmployeeResponseSingle deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            EmployeeResponseSingle response = new EmployeeResponseSingle();
+            for (JsonToken token = firstField(p, ctxt, EmployeeResponseSingle.class); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String field = p.currentName();
+                p.nextToken();
+                if (STATUS.equals(field)) {
+                    response.setStatus(EmployeeJson.readString(p, ctxt));
+                } else if (DATA.equals(field)) {
+                    response.setData(EmployeeJson.readEmployee(p, ctxt));
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return response;
+        }
+    }
+
+    public static class SingleSerializer extends StdSerializer<EmployeeResponseSingle> {
+
+        public SingleSerializer() {
+            super(EmployeeResponseSingle.class);
+        }
+
+        @Override
+        public void serialize(EmployeeResponseSingle response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField(STATUS, response.getStatus());
+            gen.writeFieldName(DATA);
+            if (response.getData() == null) {
+                gen.writeNull();
+            } else {
+                EmployeeJson.writeEmployee(response.getData(), gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static JsonToken firstField(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return p.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            ctxt.handleUnexpectedToken(type, p);
+        }
+        return token;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.rqchallenge.logging;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs each distinct message format at most once per interval. Repeats within the interval
+ * are only counted, without formatting anything, and the count is appended to the next
+ * message that does get logged. Meant for errors that arrive in storms, such as upstream
+ * 429s, where one line per interval says as much as thousands. As with SLF4J, a trailing
+ * {@link Throwable} argument is logged with its stack trace.
+ */
+public class RateLimitedLogger {
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public RateLimitedLogger(Logger logger, Duration interval) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void error(String format, Object... args) {
+        if (!logger.isErrorEnabled()) {
+            return;
+        }
+        Window window = windows.computeIfAbsent(format, f -> new Window(System.nanoTime() - intervalNanos));
+        long now = System.nanoTime();
+        long last = window.lastLoggedNanos.get();
+        if (now - last < intervalNanos || !window.lastLoggedNanos.compareAndSet(last, now)) {
+            window.suppressed.increment();
+            return;
+        }
+        long suppressed = window.suppressed.sumThenReset();
+        if (suppressed == 0) {
+            logger.error(format, args);
+        } else {
+            // The count goes before a trailing throwable, which SLF4J only treats as one when last
+            int countAt = args.length > 0 && args[args.length - 1] instanceof Throwable ? args.length - 1 : args.length;
+            Object[] withCount = Arrays.copyOf(args, args.length + 1);
+            System.arraycopy(args, countAt, withCount, countAt + 1, args.length - countAt);
+            withCount[countAt] = suppressed;
+            logger.error(format + " ({} similar suppressed)", withCount);
+        }
+    }
+
+    private static final class Window {
+        private final AtomicLong lastLoggedNanos;
+        private final LongAdder suppressed = new LongAdder();
+
+        private Window(long lastLoggedNanos) {
+            this.lastLoggedNanos = new AtomicLong(lastLoggedNanos);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.rqchallenge.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns a caller into the pseudonymous client id that rate limit buckets, metric tags and
+ * logs use. The id is a truncated HMAC-SHA256, so neither API keys nor addresses leave the
+ * process. The header is an unauthenticated claim, so a caller only gets a bucket of its
+ * own for one of the configured {@code api-keys}; any other caller, including one sending
+ * a made-up key, is identified by its remote address.
+ * <p>
+ * Without a configured {@code client-id-secret} a random one is drawn at startup, so ids
+ * are only stable for the lifetime of the process.
+ */
+@Component
+public class ClientIdResolver {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int ID_BYTES = 8;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final SecretKeySpec secret;
+    private final Set<String> knownKeyIds;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    public ClientIdResolver(@Value("${api.rate-limit.api-keys:}") String[] apiKeys,
+                            @Value("${api.rate-limit.client-id-secret:}") String secret) {
+        this.secret = new SecretKeySpec(secret.isEmpty() ? randomSecret() : secret.getBytes(StandardCharsets.UTF_8),
+                HMAC_ALGORITHM);
+        this.knownKeyIds = Arrays.stream(apiKeys)
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .map(this::keyId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public String resolve(String apiKey, String remoteAddress) {
+        if (apiKey != null && !apiKey.isBlank()) {
+            String keyId = keyId(apiKey);
+            if (knownKeyIds.contains(keyId)) {
+                return keyId;
+            }
+        }
+        return pseudonym("addr:", remoteAddress);
+    }
+
+    private String keyId(String apiKey) {
+        return pseudonym("key:", apiKey);
+    }
+
+    private String pseudonym(String kind, String value) {
+        Mac mac = macs.get();
+        mac.update(kind.getBytes(StandardCharsets.UTF_8));
+        byte[] digest = mac.doFinal(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        char[] id = new char[ID_BYTES * 2];
+        for (int i = 0; i < ID_BYTES; i++) {
+            id[2 * i] = HEX[(digest[i] >> 4) & 0xf];
+            id[2 * i + 1] = HEX[digest[i] & 0xf];
+        }
+        return new String(id);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secret);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static byte[] randomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
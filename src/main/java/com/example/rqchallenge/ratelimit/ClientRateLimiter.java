@@ -0,0 +1,153 @@
+package com.example.rqchallenge.ratelimit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-client token buckets keyed by the pseudonymous id from {@link ClientIdResolver}.
+ * Allowed and rejected counts are kept in striped {@link LongAdder}s and exported as the
+ * {@code employee.api.client.requests} counter, tagged by client id and outcome.
+ * <p>
+ * Buckets live in a {@link ConcurrentHashMap}, so a known client costs a lock-free lookup
+ * and the bucket's own CAS. Only a newcomer does more: beyond {@code max-clients} it
+ * evicts the least recently seen of a few sampled buckets, an approximate LRU that never
+ * makes it share a bucket with anyone. Buckets idle for {@code idle-eviction-ms} are
+ * dropped on a schedule. The bound is overshot by at most the newcomers being admitted at
+ * that moment, so memory and metric cardinality stay bounded either way.
+ */
+@Component
+public class ClientRateLimiter {
+
+    static final String METRIC_NAME = "employee.api.client.requests";
+    static final int EVICTION_SAMPLE = 8;
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxClients;
+    private final long idleEvictionNanos;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, ClientBucket> buckets = new ConcurrentHashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(ClientRateLimiter.class);
+
+    public ClientRateLimiter(MeterRegistry meterRegistry,
+                             @Value("${api.rate-limit.permits-per-second:5}") double permitsPerSecond,
+                             @Value("${api.rate-limit.burst:10}") int burst,
+                             @Value("${api.rate-limit.max-clients:1000}") int maxClients,
+                             @Value("${api.rate-limit.idle-eviction-ms:600000}") long idleEvictionMillis) {
+        this.meterRegistry = meterRegistry;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxClients = maxClients;
+        this.idleEvictionNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictionMillis);
+    }
+
+    public boolean tryAcquire(String clientId) {
+        long now = System.nanoTime();
+        ClientBucket bucket = buckets.get(clientId);
+        if (bucket == null) {
+            bucket = admit(clientId, now);
+        }
+        bucket.lastSeenNanos = now;
+        if (bucket.tokens.tryAcquire(now)) {
+            bucket.allowed.increment();
+            return true;
+        }
+        bucket.rejected.increment();
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${api.rate-limit.idle-eviction-ms:600000}")
+    public void evictIdleClients() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (ClientBucket bucket : buckets.values()) {
+            if (now - bucket.lastSeenNanos > idleEvictionNanos && evict(bucket)) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            logger.debug("Evicted {} idle rate limit buckets, {} remaining", evicted, buckets.size());
+        }
+    }
+
+    /**
+     * Makes room for a newcomer. Newcomers racing for the same sampled bucket sample again,
+     * so each one evicts a bucket of its own and the overshoot never accumulates.
+     */
+    private ClientBucket admit(String clientId, long now) {
+        while (buckets.size() >= maxClients) {
+            ClientBucket eldest = eldestOfSample();
+            if (eldest == null || evict(eldest)) {
+                break;
+            }
+        }
+        return buckets.computeIfAbsent(clientId, id -> new ClientBucket(id, now));
+    }
+
+    private ClientBucket eldestOfSample() {
+        ClientBucket eldest = null;
+        Iterator<ClientBucket> sample = buckets.values().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE && sample.hasNext(); i++) {
+            ClientBucket candidate = sample.next();
+            if (eldest == null || candidate.lastSeenNanos - eldest.lastSeenNanos < 0) {
+                eldest = candidate;
+            }
+        }
+        return eldest;
+    }
+
+    /**
+     * Removes {@code bucket} if it is still mapped. Its meters are unregistered under the
+     * map's lock for the key, so a client re-admitted at the same time registers fresh ones.
+     */
+    private boolean evict(ClientBucket bucket) {
+        boolean[] evicted = new boolean[1];
+        buckets.computeIfPresent(bucket.clientId, (id, current) -> {
+            if (current != bucket) {
+                return current;
+            }
+            bucket.unregister();
+            evicted[0] = true;
+            return null;
+        });
+        return evicted[0];
+    }
+
+    private final class ClientBucket {
+        private final String clientId;
+        private final TokenBucket tokens;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final Meter allowedMeter;
+        private final Meter rejectedMeter;
+        private volatile long lastSeenNanos;
+
+        private ClientBucket(String clientId, long nowNanos) {
+            this.clientId = clientId;
+            this.tokens = new TokenBucket(permitsPerSecond, burst, nowNanos);
+            this.lastSeenNanos = nowNanos;
+            this.allowedMeter = FunctionCounter.builder(METRIC_NAME, allowed, LongAdder::sum)
+                    .tag("client", clientId).tag("outcome", "allowed")
+                    .register(meterRegistry);
+            this.rejectedMeter = FunctionCounter.builder(METRIC_NAME, rejected, LongAdder::sum)
+                    .tag("client", clientId).tag("outcome", "rejected")
+                    .register(meterRegistry);
+        }
+
+        private void unregister() {
+            meterRegistry.remove(allowedMeter);
+            meterRegistry.remove(rejectedMeter);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.rqchallenge.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rejects requests before they reach the DAO once too many are in flight, or once the
+ * moving average latency is above its limit while a queue is forming (at least half of
+ * the in-flight limit). The queue condition keeps a latency spike from shedding
+ * forever, since completed requests are what bring the average back down.
+ */
+@Component
+public class LoadShedder {
+
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final int maxInFlight;
+    private final long maxLatencyNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong averageLatencyNanos = new AtomicLong();
+
+    public LoadShedder(MeterRegistry meterRegistry,
+                       @Value("${api.load-shedding.max-in-flight:64}") int maxInFlight,
+                       @Value("${api.load-shedding.max-latency-ms:2000}") long maxLatencyMillis) {
+        this.maxInFlight = maxInFlight;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+        Gauge.builder("employee.api.in-flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("employee.api.latency.average", averageLatencyNanos, nanos -> nanos.get() / 1_000_000.0)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean tryEnter() {
+        int current = inFlight.incrementAndGet();
+        boolean overloaded = current > maxInFlight
+                || (averageLatencyNanos.get() > maxLatencyNanos && current * 2 > maxInFlight);
+        if (overloaded) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void exit(long latencyNanos) {
+        inFlight.decrementAndGet();
+        averageLatencyNanos.accumulateAndGet(latencyNanos,
+                (average, sample) -> average == 0 ? sample : (long) (average + LATENCY_SMOOTHING * (sample - average)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.rqchallenge.ratelimit;
+
+import com.example.rqchallenge.exceptions.ServiceUnavailableException;
+import com.example.rqchallenge.exceptions.TooManyRequestsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Applies the per-client rate limit and load shedding in front of
+ * {@code EmployeeController}, so rejected calls never reach the DAO.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".start";
+
+    @Value("${api.rate-limit.client-header:X-API-Key}")
+    private String clientHeader;
+
+    private final ClientIdResolver clientIdResolver;
+    private final ClientRateLimiter clientRateLimiter;
+    private final LoadShedder loadShedder;
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitInterceptor.class);
+
+    public RateLimitInterceptor(ClientIdResolver clientIdResolver, ClientRateLimiter clientRateLimiter,
+                                LoadShedder loadShedder) {
+        this.clientIdResolver = clientIdResolver;
+        this.clientRateLimiter = clientRateLimiter;
+        this.loadShedder = loadShedder;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String clientId = clientIdResolver.resolve(request.getHeader(clientHeader), request.getRemoteAddr());
+        if (!clientRateLimiter.tryAcquire(clientId)) {
+            logger.debug("Rate limit exceeded for client {}", clientId);
+            throw new TooManyRequestsException("Too Many Requests: Rate limit exceeded.");
+        }
+        if (!loadShedder.tryEnter()) {
+            logger.debug("Shedding request from client {}", clientId);
+            throw new ServiceUnavailableException("Service overloaded: Please try again later.");
+        }
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start instanceof Long) {
+            loadShedder.exit(System.nanoTime() - (Long) start);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.rqchallenge.response;
+
+import com.example.rqchallenge.entities.Employee;
+
+public class EmployeeLookupResult {
+
+    public enum Status { FOUND, NOT_FOUND, RATE_LIMITED, TIMED_OUT, FAILED }
+
+    private String id;
+    private Status status;
+    private Employee data;
+    private String error;
+
+    public EmployeeLookupResult() {
+    }
+
+    public EmployeeLookupResult(String id, Status status, Employee data, String error) {
+        this.id = id;
+        this.status = status;
+        this.data = data;
+        this.error = error;
+    }
+
+    public static EmployeeLookupResult found(String id, Employee employee) {
+        return new EmployeeLookupResult(id, Status.FOUND, employee, null);
+    }
+
+    public static EmployeeLookupResult failed(String id, Status status, String error) {
+        return new EmployeeLookupResult(id, status, null, error);
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public Employee getData() { return data; }
+    public void setData(Employee data) { this.data = data; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
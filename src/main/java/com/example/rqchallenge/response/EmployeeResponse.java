@@ -1,9 +1,14 @@
 package com.example.rqchallenge.response;
 
 import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.json.EmployeeResponseJson;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import java.util.List;
 
+@JsonDeserialize(using = EmployeeResponseJson.ListDeserializer.class)
+@JsonSerialize(using = EmployeeResponseJson.ListSerializer.class)
 public class EmployeeResponse {
     private String status;
     private List<Employee> data;
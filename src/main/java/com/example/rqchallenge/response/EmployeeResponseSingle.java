@@ -1,7 +1,12 @@
 package com.example.rqchallenge.response;
 
 import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.json.EmployeeResponseJson;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
+@JsonDeserialize(using = EmployeeResponseJson.SingleDeserializer.class)
+@JsonSerialize(using = EmployeeResponseJson.SingleSerializer.class)
 public class EmployeeResponseSingle {
     private String status;
     private Employee data;
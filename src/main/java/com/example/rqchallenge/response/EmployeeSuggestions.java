@@ -0,0 +1,21 @@
+package com.example.rqchallenge.response;
+
+import com.example.rqchallenge.entities.Employee;
+
+import java.util.List;
+
+public class EmployeeSuggestions {
+
+    private final List<Employee> data;
+    private final boolean truncated;
+
+    public EmployeeSuggestions(List<Employee> data, boolean truncated) {
+        this.data = data;
+        this.truncated = truncated;
+    }
+
+    public List<Employee> getData() { return data; }
+
+    /** Whether the fuzzy search gave up early, so better matches may exist. */
+    public boolean isTruncated() { return truncated; }
+}
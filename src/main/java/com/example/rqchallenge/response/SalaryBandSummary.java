@@ -0,0 +1,67 @@
+package com.example.rqchallenge.response;
+
+import com.example.rqchallenge.entities.Employee;
+
+import java.util.List;
+
+public class SalaryBandSummary {
+
+    private String band;
+    private Integer minAge;
+    private Integer maxAge;
+    private long employeeCount;
+    private long unknownSalaryCount;
+    private long totalSalary;
+    private double averageSalary;
+    private Integer lowestSalary;
+    private Integer highestSalary;
+    private List<Employee> topEarners;
+
+    public SalaryBandSummary() {
+    }
+
+    public SalaryBandSummary(String band, Integer minAge, Integer maxAge, long employeeCount, long unknownSalaryCount,
+                             long totalSalary, Integer lowestSalary, Integer highestSalary, List<Employee> topEarners) {
+        this.band = band;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.employeeCount = employeeCount;
+        this.unknownSalaryCount = unknownSalaryCount;
+        this.totalSalary = totalSalary;
+        long salaried = employeeCount - unknownSalaryCount;
+        this.averageSalary = salaried == 0 ? 0 : (double) totalSalary / salaried;
+        this.lowestSalary = lowestSalary;
+        this.highestSalary = highestSalary;
+        this.topEarners = topEarners;
+    }
+
+    public String getBand() { return band; }
+    public void setBand(String band) { this.band = band; }
+
+    public Integer getMinAge() { return minAge; }
+    public void setMinAge(Integer minAge) { this.minAge = minAge; }
+
+    public Integer getMaxAge() { return maxAge; }
+    public void setMaxAge(Integer maxAge) { this.maxAge = maxAge; }
+
+    public long getEmployeeCount() { return employeeCount; }
+    public void setEmployeeCount(long employeeCount) { this.employeeCount = employeeCount; }
+
+    public long getUnknownSalaryCount() { return unknownSalaryCount; }
+    public void setUnknownSalaryCount(long unknownSalaryCount) { this.unknownSalaryCount = unknownSalaryCount; }
+
+    public long getTotalSalary() { return totalSalary; }
+    public void setTotalSalary(long totalSalary) { this.totalSalary = totalSalary; }
+
+    public double getAverageSalary() { return averageSalary; }
+    public void setAverageSalary(double averageSalary) { this.averageSalary = averageSalary; }
+
+    public Integer getLowestSalary() { return lowestSalary; }
+    public void setLowestSalary(Integer lowestSalary) { this.lowestSalary = lowestSalary; }
+
+    public Integer getHighestSalary() { return highestSalary; }
+    public void setHighestSalary(Integer highestSalary) { this.highestSalary = highestSalary; }
+
+    public List<Employee> getTopEarners() { return topEarners; }
+    public void setTopEarners(List<Employee> topEarners) { this.topEarners = topEarners; }
+}
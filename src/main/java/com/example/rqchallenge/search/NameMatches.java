@@ -0,0 +1,26 @@
+package com.example.rqchallenge.search;
+
+import java.util.List;
+
+/**
+ * Ranked ids from a {@link NameSearchIndex} lookup. {@code truncated} is set when a walk
+ * ran out of its step budget, so some matches, at any distance searched, may be missing.
+ */
+public final class NameMatches {
+
+    private final List<Integer> ids;
+    private final boolean truncated;
+
+    NameMatches(List<Integer> ids, boolean truncated) {
+        this.ids = ids;
+        this.truncated = truncated;
+    }
+
+    public List<Integer> getIds() {
+        return ids;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.rqchallenge.search;
+
+import java.text.Normalizer;
+
+/**
+ * Locale-independent normalization of employee names for matching. Both the roster and the
+ * query go through the same function, so comparisons are plain {@code String} operations on
+ * the results and never depend on the JVM's default locale.
+ * <p>
+ * {@link #fold(String)} composes the name to NFC first, so a precomposed "Jos&eacute;" and
+ * one spelled with a combining acute accent fold to the same string. It then
+ * trims, collapses whitespace and applies Unicode case folding
+ * ("STRAUSS" and "Strau&szlig;" both become "strauss", final sigma folds like sigma).
+ * Dotless i (U+0131) stays a letter of its own, as it is in Turkish; dotted capital I
+ * (U+0130) folds to {@code i}. {@link #foldWithoutAccents(String)} additionally drops
+ * diacritics and maps the few Latin letters that do not decompose, such as &oslash; and
+ * &aelig;, so "S&oslash;ren" matches "soren" and both Turkish i's match {@code i}.
+ */
+public final class NameNormalizer {
+
+    private NameNormalizer() {
+    }
+
+    public static String fold(String name) {
+        return normalize(name, false);
+    }
+
+    public static String foldWithoutAccents(String name) {
+        return normalize(name, true);
+    }
+
+    private static String normalize(String name, boolean stripAccents) {
+        if (name == null) {
+            return "";
+        }
+        String source = Normalizer.normalize(name, stripAccents ? Normalizer.Form.NFD : Normalizer.Form.NFC);
+        StringBuilder folded = new StringBuilder(source.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < source.length(); ) {
+            int cp = source.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isWhitespace(cp) || Character.isSpaceChar(cp)) {
+                pendingSpace = folded.length() > 0;
+                continue;
+            }
+            if (stripAccents && Character.getType(cp) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (pendingSpace) {
+                folded.append(' ');
+                pendingSpace = false;
+            }
+            appendFolded(folded, cp, stripAccents);
+        }
+        String result = folded.toString();
+        return result.equals(name) ? name : result;
+    }
+
+    private static void appendFolded(StringBuilder folded, int cp, boolean stripAccents) {
+        switch (cp) {
+            case '\u00df':
+            case '\u1e9e':
+                folded.append("ss");
+                return;
+            case '\u0130':
+                folded.append('i');
+                return;
+            case '\u0131':
+                folded.append(stripAccents ? 'i' : '\u0131');
+                return;
+            default:
+                break;
+        }
+        int lower = Character.toLowerCase(Character.toUpperCase(cp));
+        if (stripAccents) {
+            String replacement = undecomposable(lower);
+            if (replacement != null) {
+                folded.append(replacement);
+                return;
+            }
+        }
+        folded.appendCodePoint(lower);
+    }
+
+    private static String undecomposable(int cp) {
+        switch (cp) {
+            case '\u00f8':
+                return "o";
+            case '\u0142':
+                return "l";
+            case '\u0111':
+                return "d";
+            case '\u0127':
+                return "h";
+            case '\u00e6':
+                return "ae";
+            case '\u0153':
+                return "oe";
+            case '\u00fe':
+                return "th";
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.example.rqchallenge.search;
+
+import com.example.rqchallenge.entities.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable typeahead index over employee names, folded by
+ * {@link NameNormalizer#foldWithoutAccents(String)}. Every name contributes one
+ * key for the whole name and one for each later word, so "nix" finds "Tiger Nixon".
+ * Whole names and words are kept in two sorted arrays: a prefix lookup is a binary search
+ * plus a scan of at most {@code limit} entries per array, and a fuzzy lookup walks each
+ * array like a trie, reusing edit-distance rows across shared prefixes and skipping whole
+ * prefix ranges once they are settled. As is usual for typeahead, fuzzy matches must get
+ * the first character right, which confines the walk to one slice of each array.
+ * <p>
+ * Roster diffs are applied with {@link #apply(Collection, Collection)}, which merges the
+ * new keys into the existing arrays in linear time instead of re-sorting everything. That
+ * is still a full copy per diff, even a one-employee one; it is left unbatched because
+ * {@code EmployeeRoster.update} already rebuilds its id map and merges its other views in
+ * O(n) per diff, and at 1M names this copy is a fraction of that.
+ */
+public final class NameSearchIndex {
+
+    public static final NameSearchIndex EMPTY = new NameSearchIndex(SortedKeys.EMPTY, SortedKeys.EMPTY);
+    public static final int MAX_EDITS = 2;
+    public static final int ONE_EDIT_MIN_LENGTH = 3;
+    public static final int TWO_EDITS_MIN_LENGTH = 6;
+    /** Edit-distance rows and range skips one fuzzy walk may spend; a full walk is about 0.1 ms at 1M names. */
+    static final int FUZZY_STEP_BUDGET = 1000;
+
+    private final SortedKeys names;
+    private final SortedKeys words;
+
+    private NameSearchIndex(SortedKeys names, SortedKeys words) {
+        this.names = names;
+        this.words = words;
+    }
+
+    public int size() {
+        return names.keys.length + words.keys.length;
+    }
+
+    /**
+     * Returns a new index without the keys of {@code removedIds} and with the keys of
+     * {@code added}. A changed employee is passed in both.
+     */
+    public NameSearchIndex apply(Collection<Integer> removedIds, Collection<Employee> added) {
+        int[] removed = removedIds.stream().mapToInt(Integer::intValue).sorted().toArray();
+        List<Entry> freshNames = new ArrayList<>();
+        List<Entry> freshWords = new ArrayList<>();
+        for (Employee employee : added) {
+            if (employee.getId() == null || employee.getEmployeeName() == null) {
+                continue;
+            }
+            String normalized = NameNormalizer.foldWithoutAccents(employee.getEmployeeName());
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            freshNames.add(new Entry(normalized, employee.getId()));
+            for (int p = 1; p < normalized.length(); p++) {
+                if (normalized.charAt(p - 1) == ' ') {
+                    freshWords.add(new Entry(normalized.substring(p), employee.getId()));
+                }
+            }
+        }
+        return new NameSearchIndex(names.merge(removed, freshNames), words.merge(removed, freshWords));
+    }
+
+    /**
+     * Ids of employees whose name, or a word in it, starts with {@code query}. An exact
+     * name match ranks first, then names starting with the query, then names with a word
+     * that does; ties are alphabetical.
+     */
+    public List<Integer> prefix(String query, int limit) {
+        String prefix = NameNormalizer.foldWithoutAccents(query);
+        Set<Integer> ranked = new LinkedHashSet<>();
+        if (prefix.isEmpty() || limit <= 0) {
+            return new ArrayList<>(ranked);
+        }
+        names.collectPrefix(prefix, limit, ranked);
+        words.collectPrefix(prefix, limit, ranked);
+        return new ArrayList<>(ranked);
+    }
+
+    /**
+     * Ids of employees with a name or word that shares the first character of {@code query}
+     * and whose beginning is within {@code maxEdits} Levenshtein edits of it, ranked by edit
+     * distance, then exact length, then whole-name over word matches, then alphabetically.
+     * <p>
+     * The edits allowed grow with the query, as a short query with two typos matches almost
+     * anything: none below {@link #ONE_EDIT_MIN_LENGTH} characters, at most one below
+     * {@link #TWO_EDITS_MIN_LENGTH}, and never more than {@link #MAX_EDITS}. Distances are
+     * searched one at a time and the search stops once {@code limit} matches are found,
+     * since nothing further away can outrank them.
+     * <p>
+     * Every walk, one per distance and array, gives up after {@link #FUZZY_STEP_BUDGET}
+     * steps and keeps what it found. On huge rosters any distance can therefore miss
+     * matches, not just the widest, and the result is then marked
+     * {@link NameMatches#isTruncated() truncated}. Cheap walks are rarely cut short: an
+     * exact or one-edit match is usually found before the two-edit walk runs out.
+     */
+    public NameMatches fuzzy(String query, int maxEdits, int limit) {
+        String q = NameNormalizer.foldWithoutAccents(query);
+        if (q.isEmpty() || limit <= 0) {
+            return new NameMatches(new ArrayList<>(), false);
+        }
+        int k = Math.min(Math.min(maxEdits, MAX_EDITS), editsAllowed(q.length()));
+
+        Map<Integer, Candidate> best = new HashMap<>();
+        boolean complete = true;
+        for (int edits = 0; edits <= k && best.size() < limit; edits++) {
+            complete &= names.collectFuzzy(q, edits, limit, false, best);
+            complete &= words.collectFuzzy(q, edits, limit, true, best);
+        }
+
+        List<Candidate> ranked = new ArrayList<>(best.values());
+        ranked.sort(Candidate.ORDER);
+        List<Integer> result = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int r = 0; r < ranked.size() && r < limit; r++) {
+            result.add(ranked.get(r).id);
+        }
+        return new NameMatches(result, !complete);
+    }
+
+    private static int editsAllowed(int queryLength) {
+        return queryLength < ONE_EDIT_MIN_LENGTH ? 0 : queryLength < TWO_EDITS_MIN_LENGTH ? 1 : 2;
+    }
+
+    private static final class SortedKeys {
+
+        private static final SortedKeys EMPTY = new SortedKeys(new String[0], new int[0]);
+        private static final Comparator<Entry> ENTRY_ORDER =
+                Comparator.comparing((Entry entry) -> entry.key).thenComparingInt(entry -> entry.id);
+
+        private final String[] keys;
+        private final int[] ids;
+
+        private SortedKeys(String[] keys, int[] ids) {
+            this.keys = keys;
+            this.ids = ids;
+        }
+
+        private SortedKeys merge(int[] removed, List<Entry> fresh) {
+            fresh.sort(ENTRY_ORDER);
+            int capacity = keys.length + fresh.size();
+            String[] mergedKeys = new String[capacity];
+            int[] mergedIds = new int[capacity];
+            int n = 0;
+            int a = 0;
+            int b = 0;
+            while (a < keys.length || b < fresh.size()) {
+                if (a < keys.length && Arrays.binarySearch(removed, ids[a]) >= 0) {
+                    a++;
+                    continue;
+                }
+                if (b == fresh.size() || (a < keys.length && compare(keys[a], ids[a], fresh.get(b)) <= 0)) {
+                    mergedKeys[n] = keys[a];
+                    mergedIds[n] = ids[a];
+                    a++;
+                } else {
+                    Entry entry = fresh.get(b++);
+                    mergedKeys[n] = entry.key;
+                    mergedIds[n] = entry.id;
+                }
+                n++;
+            }
+            return new SortedKeys(Arrays.copyOf(mergedKeys, n), Arrays.copyOf(mergedIds, n));
+        }
+
+        private void collectPrefix(String prefix, int limit, Set<Integer> ranked) {
+            for (int i = lowerBound(prefix); i < keys.length && ranked.size() < limit && keys[i].startsWith(prefix); i++) {
+                ranked.add(ids[i]);
+            }
+        }
+
+        /** Returns whether the walk covered its whole slice within the step budget. */
+        private boolean collectFuzzy(String q, int k, int limit, boolean wordMatch, Map<Integer, Candidate> best) {
+            int m = q.length();
+            int maxDepth = m + k;
+            int[][] rows = new int[maxDepth + 1][m + 1];
+            int[] bestAt = new int[maxDepth + 1];
+            for (int c = 0; c <= m; c++) {
+                rows[0][c] = c;
+            }
+            bestAt[0] = m;
+
+            String first = q.substring(0, 1);
+            int i = lowerBound(first);
+            int to = i < keys.length && keys[i].startsWith(first) ? skipPrefix(i, keys.length, first, 1) : i;
+            String previous = "";
+            int computedDepth = 0;
+            int steps = 0;
+            while (i < to && steps++ < FUZZY_STEP_BUDGET) {
+                String key = keys[i];
+                int depth = Math.min(commonPrefix(previous, key), computedDepth);
+                int end = Math.min(key.length(), maxDepth);
+                boolean settled = depth == maxDepth;
+                for (int j = depth + 1; j <= end && !settled; j++, steps++) {
+                    char ch = key.charAt(j - 1);
+                    int[] above = rows[j - 1];
+                    int[] row = rows[j];
+                    row[0] = j;
+                    int rowMin = j;
+                    for (int c = 1; c <= m; c++) {
+                        int cost = q.charAt(c - 1) == ch ? 0 : 1;
+                        row[c] = Math.min(Math.min(above[c] + 1, row[c - 1] + 1), above[c - 1] + cost);
+                        rowMin = Math.min(rowMin, row[c]);
+                    }
+                    bestAt[j] = Math.min(bestAt[j - 1], row[m]);
+                    depth = j;
+                    settled = rowMin > k || j == maxDepth;
+                }
+                previous = key;
+                computedDepth = depth;
+                int distance = bestAt[depth];
+
+                if (!settled) {
+                    if (distance <= k) {
+                        offer(best, i, distance, m, wordMatch);
+                    }
+                    i++;
+                    continue;
+                }
+                // Longer keys under this prefix cannot get any closer, so the whole range
+                // shares one distance; it is sorted, so its first entries rank best.
+                int next = skipPrefix(i, to, key, depth);
+                if (distance <= k) {
+                    for (int r = i; r < next && r < i + limit; r++) {
+                        offer(best, r, distance, m, wordMatch);
+                    }
+                }
+                i = next;
+            }
+            return i >= to;
+        }
+
+        private void offer(Map<Integer, Candidate> best, int index, int distance, int queryLength, boolean wordMatch) {
+            Candidate candidate = new Candidate(ids[index], distance, keys[index].length() == queryLength ? 0 : 1,
+                    wordMatch ? 1 : 0, keys[index]);
+            best.merge(candidate.id, candidate, (x, y) -> Candidate.ORDER.compare(x, y) <= 0 ? x : y);
+        }
+
+        private int lowerBound(String prefix) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /** First index in {@code (from, to]} whose key does not start with the first {@code length} chars of {@code key}. */
+        private int skipPrefix(int from, int to, String key, int length) {
+            int lo = from + 1;
+            int hi = to;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].length() >= length && keys[mid].regionMatches(0, key, 0, length)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private static int commonPrefix(String a, String b) {
+            int max = Math.min(a.length(), b.length());
+            int n = 0;
+            while (n < max && a.charAt(n) == b.charAt(n)) {
+                n++;
+            }
+            return n;
+        }
+
+        private static int compare(String key, int id, Entry entry) {
+            int byKey = key.compareTo(entry.key);
+            return byKey != 0 ? byKey : Integer.compare(id, entry.id);
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final int id;
+
+        private Entry(String key, int id) {
+            this.key = key;
+            this.id = id;
+        }
+    }
+
+    private static final class Candidate {
+        private static final Comparator<Candidate> ORDER = Comparator
+                .comparingInt((Candidate c) -> c.distance)
+                .thenComparingInt(c -> c.inexact)
+                .thenComparingInt(c -> c.wordMatch)
+                .thenComparing(c -> c.key)
+                .thenComparingInt(c -> c.id);
+
+        private final int id;
+        private final int distance;
+        private final int inexact;
+        private final int wordMatch;
+        private final String key;
+
+        private Candidate(int id, int distance, int inexact, int wordMatch, String key) {
+            this.id = id;
+            this.distance = distance;
+            this.inexact = inexact;
+            this.wordMatch = wordMatch;
+            this.key = key;
+        }
+    }
+}
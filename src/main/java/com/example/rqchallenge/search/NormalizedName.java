@@ -0,0 +1,35 @@
+package com.example.rqchallenge.search;
+
+/**
+ * An employee name folded once, when the roster is loaded, in both matching modes. Names
+ * without accents share one string for the two forms. Matching a prepared query against it
+ * is a plain substring search and allocates nothing.
+ */
+public final class NormalizedName {
+
+    private final int id;
+    private final String folded;
+    private final String foldedWithoutAccents;
+
+    public NormalizedName(int id, String name) {
+        this.id = id;
+        this.folded = NameNormalizer.fold(name);
+        String withoutAccents = NameNormalizer.foldWithoutAccents(name);
+        this.foldedWithoutAccents = withoutAccents.equals(folded) ? folded : withoutAccents;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @param needle the query, already folded with {@link #prepare(String, boolean)} in the same mode
+     */
+    public boolean contains(String needle, boolean accentInsensitive) {
+        return (accentInsensitive ? foldedWithoutAccents : folded).contains(needle);
+    }
+
+    public static String prepare(String query, boolean accentInsensitive) {
+        return accentInsensitive ? NameNormalizer.foldWithoutAccents(query) : NameNormalizer.fold(query);
+    }
+}
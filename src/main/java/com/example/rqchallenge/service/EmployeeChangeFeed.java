@@ -0,0 +1,57 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.dao.RosterDiff;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes every roster diff to subscribed server-sent-event clients, so consumers
+ * can follow changes instead of polling the full employee list.
+ */
+@Component
+public class EmployeeChangeFeed {
+
+    static final String EVENT_NAME = "roster-changed";
+
+    @Value("${api.change-feed.timeout-ms:1800000}")
+    private long emitterTimeoutMillis;
+
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeFeed.class);
+
+    public EmployeeChangeFeed(EmployeeRoster employeeRoster) {
+        employeeRoster.addListener(this::publish);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        logger.debug("Change feed subscriber added, {} active", subscribers.size());
+        return emitter;
+    }
+
+    void publish(RosterDiff diff) {
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(diff.getVersion()))
+                        .name(EVENT_NAME)
+                        .data(diff));
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Dropping change feed subscriber: {}", e.getMessage());
+                subscribers.remove(emitter);
+            }
+        }
+    }
+}
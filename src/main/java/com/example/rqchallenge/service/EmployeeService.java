@@ -1,7 +1,13 @@
 package com.example.rqchallenge.service;
 
+import com.example.rqchallenge.analytics.EmployeeFilter;
+import com.example.rqchallenge.analytics.SalaryAnalytics;
 import com.example.rqchallenge.dao.EmployeeDAO;
+import com.example.rqchallenge.dao.PendingWrite;
 import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.EmployeeLookupResult;
+import com.example.rqchallenge.response.EmployeeSuggestions;
+import com.example.rqchallenge.response.SalaryBandSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,11 +19,13 @@ import java.util.List;
 public class EmployeeService implements EmployeeServiceInterface {
 
     private final EmployeeDAO employeeDAO;
+    private final SalaryAnalytics salaryAnalytics;
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
 
     @Autowired
-    public EmployeeService(EmployeeDAO employeeDAO) {
+    public EmployeeService(EmployeeDAO employeeDAO, SalaryAnalytics salaryAnalytics) {
         this.employeeDAO = employeeDAO;
+        this.salaryAnalytics = salaryAnalytics;
     }
 
     @Override
@@ -29,13 +37,19 @@ public class EmployeeService implements EmployeeServiceInterface {
     }
 
     @Override
-    public List<Employee> getEmployeesByNameSearch(String name) {
+    public List<Employee> getEmployeesByNameSearch(String name, boolean accentInsensitive) {
         logger.info("Searching employees by name: {}", name);
-        List<Employee> employees = employeeDAO.getEmployeesByNameSearch(name);
+        List<Employee> employees = employeeDAO.getEmployeesByNameSearch(name, accentInsensitive);
         logger.debug("Found {} employees by name {}", employees.size(), name);
         return employees;
     }
 
+    @Override
+    public EmployeeSuggestions suggestEmployeesByName(String query, int maxEdits, int limit) {
+        logger.debug("Suggesting employees for {} with up to {} edits", query, maxEdits);
+        return employeeDAO.suggestEmployeesByName(query, maxEdits, limit);
+    }
+
     @Override
     public Employee getEmployeeById(String id) {
         logger.info("Fetching employee by ID: {}", id);
@@ -48,6 +62,14 @@ public class EmployeeService implements EmployeeServiceInterface {
         return employee;
     }
 
+    @Override
+    public List<EmployeeLookupResult> getEmployeesByIds(List<String> ids) {
+        logger.info("Fetching {} employees by ID", ids.size());
+        List<EmployeeLookupResult> results = employeeDAO.getEmployeesByIds(ids);
+        logger.debug("Multi-get results: {}", results);
+        return results;
+    }
+
     @Override
     public Integer getHighestSalaryOfEmployees() {
         logger.info("Fetching highest salary of employees");
@@ -64,6 +86,23 @@ public class EmployeeService implements EmployeeServiceInterface {
         return topNames;
     }
 
+    /** Brings the roster up to date through the DAO, then aggregates it. */
+    @Override
+    public List<SalaryBandSummary> getSalaryBands(int topN) {
+        logger.info("Fetching salary summary per age band with top {} earners", topN);
+        employeeDAO.getAllEmployees();
+        return salaryAnalytics.getSalaryBands(topN);
+    }
+
+    @Override
+    public List<Employee> getTopEarners(EmployeeFilter filter, int limit) {
+        logger.info("Fetching top {} earners matching {}", limit, filter);
+        employeeDAO.getAllEmployees();
+        List<Employee> topEarners = salaryAnalytics.getTopEarners(filter, limit);
+        logger.debug("Top earners matching {}: {}", filter, topEarners);
+        return topEarners;
+    }
+
     @Override
     public Employee createEmployee(String name, int salary, int age) {
         logger.info("Creating employee: Name={}, Salary={}, Age={}", name, salary, age);
@@ -79,4 +118,9 @@ public class EmployeeService implements EmployeeServiceInterface {
         logger.debug("Delete message: {}", deleteMessage);
         return deleteMessage;
     }
+
+    @Override
+    public List<PendingWrite> getPendingWrites() {
+        return employeeDAO.getPendingWrites();
+    }
 }
@@ -1,6 +1,11 @@
 package com.example.rqchallenge.service;
 
+import com.example.rqchallenge.analytics.EmployeeFilter;
+import com.example.rqchallenge.dao.PendingWrite;
 import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.EmployeeLookupResult;
+import com.example.rqchallenge.response.EmployeeSuggestions;
+import com.example.rqchallenge.response.SalaryBandSummary;
 
 import java.util.List;
 
@@ -8,15 +13,25 @@ public interface EmployeeServiceInterface {
 
     List<Employee> getAllEmployees();
 
-    List<Employee> getEmployeesByNameSearch(String name);
+    List<Employee> getEmployeesByNameSearch(String name, boolean accentInsensitive);
+
+    EmployeeSuggestions suggestEmployeesByName(String query, int maxEdits, int limit);
 
     Employee getEmployeeById(String id);
 
+    List<EmployeeLookupResult> getEmployeesByIds(List<String> ids);
+
     Integer getHighestSalaryOfEmployees();
 
     List<String> getTop10HighestEarningEmployeeNames();
 
+    List<SalaryBandSummary> getSalaryBands(int topN);
+
+    List<Employee> getTopEarners(EmployeeFilter filter, int limit);
+
     Employee createEmployee(String name, int salary, int age);
 
     String deleteEmployee(String id);
+
+    List<PendingWrite> getPendingWrites();
 }
@@ -0,0 +1,33 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.dao.EmployeeDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically re-fetches the roster so the change feed keeps flowing without
+ * clients polling. Disabled by default because each refresh spends upstream quota.
+ */
+@Component
+@ConditionalOnProperty(name = "api.roster.refresh.enabled", havingValue = "true")
+public class RosterRefreshScheduler {
+
+    private final EmployeeDAO employeeDAO;
+    private static final Logger logger = LoggerFactory.getLogger(RosterRefreshScheduler.class);
+
+    public RosterRefreshScheduler(EmployeeDAO employeeDAO) {
+        this.employeeDAO = employeeDAO;
+    }
+
+    @Scheduled(fixedDelayString = "${api.roster.refresh.interval-ms:60000}")
+    public void refresh() {
+        try {
+            employeeDAO.getAllEmployees();
+        } catch (Exception e) {
+            logger.warn("Scheduled roster refresh failed: {}", e.getMessage());
+        }
+    }
+}
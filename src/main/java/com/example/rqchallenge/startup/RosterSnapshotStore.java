@@ -0,0 +1,119 @@
+package com.example.rqchallenge.startup;
+
+import com.example.rqchallenge.cache.CachedRoster;
+import com.example.rqchallenge.dao.EmployeeDAO;
+import com.example.rqchallenge.entities.Employee;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps a copy of the last roster confirmed by the upstream on local disk, so a restarted
+ * instance can preload it during warm-up. Creates and deletes still pending on top of it
+ * are never persisted. Each new roster is written on a background thread, and only the
+ * latest one is written when they arrive faster than the disk keeps up. The file's
+ * modification time is set to the roster's fetch time. Disabled when {@code snapshot-file}
+ * is empty.
+ */
+@Component
+public class RosterSnapshotStore {
+
+    private static final TypeReference<List<Employee>> EMPLOYEE_LIST = new TypeReference<List<Employee>>() {
+    };
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<CachedRoster> unsaved = new AtomicReference<>();
+    private final ThreadPoolExecutor writer = newWriter();
+    private static final Logger logger = LoggerFactory.getLogger(RosterSnapshotStore.class);
+
+    public RosterSnapshotStore(EmployeeDAO employeeDAO, ObjectMapper objectMapper,
+                               @Value("${api.warmup.snapshot-file:}") String file) {
+        this.objectMapper = objectMapper;
+        this.file = file.isEmpty() ? null : Paths.get(file);
+        if (this.file != null) {
+            employeeDAO.addRosterListener(this::scheduleSave);
+        }
+    }
+
+    /**
+     * The last saved roster, stamped with the time it was fetched, or null if there is none
+     * or it cannot be read.
+     */
+    public CachedRoster load() {
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            long fetchedAt = Files.getLastModifiedTime(file).toMillis();
+            return new CachedRoster(fetchedAt, objectMapper.readValue(file.toFile(), EMPLOYEE_LIST));
+        } catch (IOException e) {
+            logger.warn("Could not read roster snapshot {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        writer.shutdown();
+    }
+
+    private void scheduleSave(CachedRoster roster) {
+        if (unsaved.getAndSet(roster) == null) {
+            writer.execute(() -> save(unsaved.getAndSet(null)));
+        }
+    }
+
+    private void save(CachedRoster roster) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            createPrivateDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), roster.getEmployees());
+            Files.setLastModifiedTime(temp, FileTime.fromMillis(roster.getFetchedAt()));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write roster snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static void createPrivateDirectories(Path directory) throws IOException {
+        if (Files.isDirectory(directory)) {
+            return;
+        }
+        if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+
+    /** One writer thread, started on demand and stopped when idle. */
+    private static ThreadPoolExecutor newWriter() {
+        ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "roster-snapshot");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        writer.allowCoreThreadTimeOut(true);
+        return writer;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.rqchallenge.startup;
+
+import com.example.rqchallenge.cache.CachedRoster;
+import com.example.rqchallenge.cache.RosterCache;
+import com.example.rqchallenge.dao.EmployeeDAO;
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.EmployeeResponse;
+import com.example.rqchallenge.response.EmployeeResponseSingle;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gets the instance warm before it takes traffic: preloads the roster from the local
+ * snapshot, fetches it from the upstream or the shared cache, runs every JSON, CBOR and
+ * Smile mapper over the response types and repeats the roster queries until the JIT has
+ * compiled them. Spring Boot only reports readiness once all application runners have
+ * returned, so {@code /actuator/health/readiness} stays down until this is done.
+ * <p>
+ * A snapshot younger than the roster cache TTL is served as is and put in the roster cache
+ * if that has nothing fresher, so the roster is only fetched when the snapshot is stale or
+ * missing. The queries are repeated up to {@code iterations} times but stop once
+ * {@code budget-ms} has passed, so a large roster does not hold back readiness.
+ * <p>
+ * The warm-up time is recorded as the {@code employee.warmup} timer, next to Spring
+ * Boot's own {@code application.started.time} and {@code application.ready.time}.
+ */
+@Component
+@ConditionalOnProperty(name = "api.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    private final EmployeeDAO employeeDAO;
+    private final EmployeeRoster employeeRoster;
+    private final RosterCache rosterCache;
+    private final RosterSnapshotStore snapshotStore;
+    private final List<ObjectMapper> objectMappers;
+    private final MeterRegistry meterRegistry;
+    private final long cacheTtlMillis;
+    private final int iterations;
+    private final long budgetMillis;
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    public WarmupRunner(EmployeeDAO employeeDAO, EmployeeRoster employeeRoster, RosterCache rosterCache,
+                        RosterSnapshotStore snapshotStore, ObjectMapper objectMapper,
+                        MappingJackson2CborHttpMessageConverter cborConverter,
+                        MappingJackson2SmileHttpMessageConverter smileConverter, MeterRegistry meterRegistry,
+                        @Value("${api.roster.cache.ttl-ms:60000}") long cacheTtlMillis,
+                        @Value("${api.warmup.iterations:2000}") int iterations,
+                        @Value("${api.warmup.budget-ms:1000}") long budgetMillis) {
+        this.employeeDAO = employeeDAO;
+        this.employeeRoster = employeeRoster;
+        this.rosterCache = rosterCache;
+        this.snapshotStore = snapshotStore;
+        this.objectMappers = Arrays.asList(objectMapper, cborConverter.getObjectMapper(), smileConverter.getObjectMapper());
+        this.meterRegistry = meterRegistry;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.iterations = iterations;
+        this.budgetMillis = budgetMillis;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+
+        CachedRoster snapshot = snapshotStore.load();
+        long snapshotAgeMillis = snapshot == null ? Long.MAX_VALUE : System.currentTimeMillis() - snapshot.getFetchedAt();
+        if (snapshot != null && snapshot.getEmployees() != null) {
+            if (snapshotAgeMillis < cacheTtlMillis && rosterCache.stamp() < snapshot.getFetchedAt()) {
+                rosterCache.put(snapshot);
+            }
+            employeeDAO.preload(snapshot);
+            logger.info("Preloaded {} employees from a roster snapshot fetched {} ms ago",
+                    snapshot.getEmployees().size(), snapshotAgeMillis);
+        }
+        if (snapshotAgeMillis >= cacheTtlMillis) {
+            try {
+                employeeDAO.getAllEmployees();
+            } catch (RuntimeException e) {
+                logger.warn("Warm-up could not fetch the roster, continuing with {} employees: {}", employeeRoster.size(), e.getMessage());
+            }
+        }
+
+        List<Employee> employees = employeeRoster.getEmployees();
+        exerciseMappers(employees);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        long coldNanos = exerciseRosterQueries(employees);
+        long warmNanos = coldNanos;
+        int rounds = 1;
+        while (rounds < iterations && System.nanoTime() - deadline < 0) {
+            warmNanos = exerciseRosterQueries(employees);
+            rounds++;
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        meterRegistry.timer("employee.warmup").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        logger.info("Warm-up finished in {} ms, {} ms after JVM start; {} rounds of roster queries took {} us cold and {} us warm",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), ManagementFactory.getRuntimeMXBean().getUptime(), rounds,
+                TimeUnit.NANOSECONDS.toMicros(coldNanos), TimeUnit.NANOSECONDS.toMicros(warmNanos));
+    }
+
+    private void exerciseMappers(List<Employee> employees) {
+        Employee sample = employees.isEmpty() ? new Employee(0, "Warm Up", 0, 0) : employees.get(0);
+        EmployeeResponse response = new EmployeeResponse();
+        response.setData(employees);
+        for (ObjectMapper mapper : objectMappers) {
+            try {
+                mapper.readValue(mapper.writeValueAsBytes(response), EmployeeResponse.class);
+                mapper.readValue(mapper.writeValueAsBytes(new EmployeeResponseSingle(sample)), EmployeeResponseSingle.class);
+                mapper.readValue(mapper.writeValueAsBytes(sample), Employee.class);
+            } catch (IOException e) {
+                logger.warn("Warm-up could not exercise {}: {}", mapper.getFactory().getFormatName(), e.getMessage());
+            }
+        }
+    }
+
+    private long exerciseRosterQueries(List<Employee> employees) {
+        long start = System.nanoTime();
+        String name = employees.isEmpty() || employees.get(0).getEmployeeName() == null
+                ? "warm" : employees.get(0).getEmployeeName();
+        String prefix = name.substring(0, Math.min(3, name.length()));
+        employeeRoster.searchByName(prefix, false);
+        employeeRoster.searchByName(prefix, true);
+        employeeRoster.suggestByName(prefix, 0, 10);
+        employeeRoster.suggestByName(name, 1, 10);
+        employeeRoster.getHighestSalary();
+        employeeRoster.getTopEarnerNames(10);
+        employeeRoster.findById("1");
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.ratelimit.ClientIdResolver;
+import com.example.rqchallenge.ratelimit.ClientRateLimiter;
+import com.example.rqchallenge.ratelimit.LoadShedder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRateLimiterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testTryAcquire_RejectsOnceBurstIsSpent() {
+        ClientRateLimiter limiter = new ClientRateLimiter(meterRegistry, 0.01, 3, 100, 60000);
+
+        assertTrue(limiter.tryAcquire("client-a"));
+        assertTrue(limiter.tryAcquire("client-a"));
+        assertTrue(limiter.tryAcquire("client-a"));
+        assertFalse(limiter.tryAcquire("client-a"));
+        assertTrue(limiter.tryAcquire("client-b"));
+
+        assertEquals(3.0, meterRegistry.get("employee.api.client.requests")
+                .tag("client", "client-a").tag("outcome", "allowed").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("employee.api.client.requests")
+                .tag("client", "client-a").tag("outcome", "rejected").functionCounter().count());
+    }
+
+    @Test
+    void testTryAcquire_EvictsLeastRecentlySeenBeyondMaxClients() {
+        ClientRateLimiter limiter = new ClientRateLimiter(meterRegistry, 0.01, 1, 2, 60000);
+
+        assertTrue(limiter.tryAcquire("client-a"));
+        assertTrue(limiter.tryAcquire("client-b"));
+        assertFalse(limiter.tryAcquire("client-a"));
+        assertTrue(limiter.tryAcquire("client-c"));
+
+        assertFalse(limiter.tryAcquire("client-a"));
+        assertTrue(meterRegistry.find("employee.api.client.requests").tag("client", "client-b").meters().isEmpty());
+        assertEquals(4, meterRegistry.find("employee.api.client.requests").meters().size());
+    }
+
+    @Test
+    void testTryAcquire_StaysNearMaxClientsUnderConcurrentChurn() throws InterruptedException {
+        ClientRateLimiter limiter = new ClientRateLimiter(meterRegistry, 0.01, 1, 50, 60000);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            String prefix = "client-" + t + "-";
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    limiter.tryAcquire(prefix + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int buckets = meterRegistry.find("employee.api.client.requests").meters().size() / 2;
+        assertTrue(buckets >= 50 && buckets <= 50 + threads.length, "buckets: " + buckets);
+    }
+
+    @Test
+    void testResolve_OnlyConfiguredKeysGetTheirOwnPseudonymousId() {
+        ClientIdResolver resolver = new ClientIdResolver(new String[]{"secret-key-1", " secret-key-2 "}, "hmac-secret");
+
+        String keyId = resolver.resolve("secret-key-1", "10.0.0.1");
+        assertEquals(keyId, resolver.resolve("secret-key-1", "10.0.0.2"));
+        assertFalse(keyId.contains("secret"));
+        assertEquals(16, keyId.length());
+        assertNotEquals(keyId, resolver.resolve("secret-key-2", "10.0.0.1"));
+
+        String addressId = resolver.resolve(null, "10.0.0.1");
+        assertNotEquals(keyId, addressId);
+        assertFalse(addressId.contains("10.0.0.1"));
+        assertEquals(addressId, resolver.resolve("made-up-key", "10.0.0.1"));
+        assertEquals(addressId, resolver.resolve("another-made-up-key", "10.0.0.1"));
+        assertNotEquals(addressId, new ClientIdResolver(new String[0], "other-secret").resolve(null, "10.0.0.1"));
+    }
+
+    @Test
+    void testLoadShedder_RejectsAboveMaxInFlight() {
+        LoadShedder loadShedder = new LoadShedder(meterRegistry, 2, 60000);
+
+        assertTrue(loadShedder.tryEnter());
+        assertTrue(loadShedder.tryEnter());
+        assertFalse(loadShedder.tryEnter());
+
+        loadShedder.exit(1000);
+        assertTrue(loadShedder.tryEnter());
+    }
+}
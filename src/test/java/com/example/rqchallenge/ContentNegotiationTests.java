@@ -0,0 +1,92 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.service.EmployeeServiceInterface;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "api.warmup.enabled=false")
+class ContentNegotiationTests {
+
+    private static final TypeReference<List<Employee>> EMPLOYEES = new TypeReference<List<Employee>>() {
+    };
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private EmployeeServiceInterface employeeService;
+
+    @Test
+    void testGetAllEmployees_JsonByDefault() throws IOException {
+        when(employeeService.getAllEmployees()).thenReturn(roster(3));
+
+        HttpURLConnection connection = get("*/*", null);
+
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getContentType().startsWith("application/json"));
+        assertEquals(roster(3), new ObjectMapper().readValue(connection.getInputStream(), EMPLOYEES));
+    }
+
+    @Test
+    void testGetAllEmployees_CborAndSmileWhenAsked() throws IOException {
+        when(employeeService.getAllEmployees()).thenReturn(roster(3));
+
+        HttpURLConnection cbor = get("application/cbor", null);
+        assertEquals("application/cbor", cbor.getContentType());
+        assertEquals(roster(3), new ObjectMapper(new CBORFactory()).readValue(cbor.getInputStream(), EMPLOYEES));
+
+        HttpURLConnection smile = get("application/x-jackson-smile", null);
+        assertEquals("application/x-jackson-smile", smile.getContentType());
+        assertEquals(roster(3), new ObjectMapper(new SmileFactory()).readValue(smile.getInputStream(), EMPLOYEES));
+    }
+
+    @Test
+    void testGetAllEmployees_GzipOnlyFromTwoKilobytes() throws IOException {
+        when(employeeService.getAllEmployees()).thenReturn(roster(1));
+        HttpURLConnection small = get("application/json", "gzip");
+        assertEquals(200, small.getResponseCode());
+        assertNull(small.getHeaderField("Content-Encoding"));
+
+        when(employeeService.getAllEmployees()).thenReturn(roster(100));
+        HttpURLConnection large = get("application/json", "gzip");
+        assertEquals("gzip", large.getHeaderField("Content-Encoding"));
+        try (InputStream body = new GZIPInputStream(large.getInputStream())) {
+            assertEquals(roster(100), new ObjectMapper().readValue(body, EMPLOYEES));
+        }
+    }
+
+    private HttpURLConnection get(String accept, String acceptEncoding) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/api/employees").openConnection();
+        connection.setRequestProperty("Accept", accept);
+        if (acceptEncoding != null) {
+            connection.setRequestProperty("Accept-Encoding", acceptEncoding);
+        }
+        return connection;
+    }
+
+    private static List<Employee> roster(int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            employees.add(new Employee(i, "Employee " + i, 1000 * i, 20 + i % 40));
+        }
+        return employees;
+    }
+}
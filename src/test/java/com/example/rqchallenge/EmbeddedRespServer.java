@@ -0,0 +1,166 @@
+package com.example.rqchallenge;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local stand-in for a Redis server speaking just enough RESP for the roster cache:
+ * {@code GET}, {@code GETRANGE} and {@code SET} with {@code NX} and {@code PX}.
+ */
+class EmbeddedRespServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, Value> store = new ConcurrentHashMap<>();
+    private final List<Socket> connections = new ArrayList<>();
+
+    EmbeddedRespServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::acceptLoop, "embedded-resp-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    int getConnectionCount() {
+        synchronized (connections) {
+            return connections.size();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                synchronized (connections) {
+                    connections.add(socket);
+                }
+                Thread handler = new Thread(() -> serve(socket), "embedded-resp-connection");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket s = socket) {
+            InputStream in = new BufferedInputStream(s.getInputStream());
+            OutputStream out = s.getOutputStream();
+            while (true) {
+                List<String> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                out.write(execute(command).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException e) {
+            // client went away
+        }
+    }
+
+    private String execute(List<String> command) {
+        String key = command.size() > 1 ? command.get(1) : "";
+        Value value = store.get(key);
+        if (value != null && value.expiresAt <= System.currentTimeMillis()) {
+            store.remove(key, value);
+            value = null;
+        }
+        switch (command.get(0).toUpperCase()) {
+            case "GET":
+                return value == null ? "$-1\r\n" : bulk(value.data);
+            case "GETRANGE":
+                if (value == null) {
+                    return bulk("");
+                }
+                int end = Math.min(Integer.parseInt(command.get(3)) + 1, value.data.length());
+                return bulk(value.data.substring(Math.min(Integer.parseInt(command.get(2)), end), end));
+            case "SET":
+                boolean nx = false;
+                long expiresAt = Long.MAX_VALUE;
+                for (int i = 3; i < command.size(); i++) {
+                    if (command.get(i).equalsIgnoreCase("NX")) {
+                        nx = true;
+                    } else if (command.get(i).equalsIgnoreCase("PX")) {
+                        expiresAt = System.currentTimeMillis() + Long.parseLong(command.get(++i));
+                    }
+                }
+                Value fresh = new Value(command.get(2), expiresAt);
+                if (nx) {
+                    return value == null && store.putIfAbsent(key, fresh) == null ? "+OK\r\n" : "$-1\r\n";
+                }
+                store.put(key, fresh);
+                return "+OK\r\n";
+            default:
+                return "-ERR unknown command\r\n";
+        }
+    }
+
+    private static String bulk(String data) {
+        return "$" + data.getBytes(StandardCharsets.UTF_8).length + "\r\n" + data + "\r\n";
+    }
+
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            args.add(new String(in.readNBytes(length), StandardCharsets.UTF_8));
+            readLine(in);
+        }
+        return args;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b == -1) {
+                return null;
+            }
+            line.write(b);
+        }
+        in.read();
+        return line.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        synchronized (connections) {
+            for (Socket socket : connections) {
+                socket.close();
+            }
+        }
+    }
+
+    private static final class Value {
+        private final String data;
+        private final long expiresAt;
+
+        private Value(String data, long expiresAt) {
+            this.data = data;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.EmployeeResponse;
+import com.example.rqchallenge.response.EmployeeResponseSingle;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeJsonTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testDeserializeEmployeeResponse_ParsesNumericStrings() throws IOException {
+        String json = "{\"status\":\"success\",\"data\":[{\"id\":\"1\",\"employee_name\":\"Tiger Nixon\","
+                + "\"employee_salary\":\"320800\",\"employee_age\":\"61\",\"profile_image\":\"\",\"unknown\":{\"a\":[1]}}]}";
+
+        EmployeeResponse response = objectMapper.readValue(json, EmployeeResponse.class);
+
+        assertEquals("success", response.getStatus());
+        assertEquals(1, response.getData().size());
+        Employee employee = response.getData().get(0);
+        assertEquals(1, employee.getId());
+        assertEquals("Tiger Nixon", employee.getEmployeeName());
+        assertEquals(320800, employee.getEmployeeSalary());
+        assertEquals(61, employee.getEmployeeAge());
+        assertEquals("", employee.getProfileImage());
+    }
+
+    @Test
+    void testDeserializeEmployeeResponseSingle_AcceptsNumbersAndNulls() throws IOException {
+        String json = "{\"status\":\"success\",\"data\":{\"id\":7,\"employee_name\":null,\"employee_salary\":\"\",\"employee_age\":-1}}";
+
+        EmployeeResponseSingle response = objectMapper.readValue(json, EmployeeResponseSingle.class);
+
+        assertEquals(7, response.getData().getId());
+        assertNull(response.getData().getEmployeeName());
+        assertNull(response.getData().getEmployeeSalary());
+        assertEquals(-1, response.getData().getEmployeeAge());
+    }
+
+    @Test
+    void testDeserializeEmployee_RejectsMalformedNumbers() {
+        assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue("{\"employee_salary\":\"12a\"}", Employee.class));
+        assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue("{\"employee_salary\":\"2147483648\"}", Employee.class));
+    }
+
+    @Test
+    void testDeserializeEmployee_AcceptsOnlyWholeFloats() throws IOException {
+        assertEquals(320800, objectMapper.readValue("{\"employee_salary\":320800.0}", Employee.class).getEmployeeSalary());
+        assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue("{\"employee_salary\":123.9}", Employee.class));
+        assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue("{\"employee_age\":1e10}", Employee.class));
+    }
+
+    @Test
+    void testDeserializeEmployee_RejectsStructuredStrings() {
+        assertThrows(MismatchedInputException.class,
+                () -> objectMapper.readValue("{\"employee_name\":{\"id\":\"2\"},\"id\":\"1\"}", Employee.class));
+        assertThrows(MismatchedInputException.class,
+                () -> objectMapper.readValue("{\"profile_image\":[\"a\"],\"id\":\"1\"}", Employee.class));
+    }
+
+    @Test
+    void testSerializeEmployee_KeepsWireFormat() throws IOException {
+        String json = objectMapper.writeValueAsString(new Employee(1, "John Doe", 50000, 30));
+
+        assertEquals("{\"id\":1,\"employee_name\":\"John Doe\",\"employee_salary\":50000,\"employee_age\":30,\"profile_image\":null}", json);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.dao.RosterDiff;
+import com.example.rqchallenge.entities.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeRosterTests {
+
+    private EmployeeRoster employeeRoster;
+
+    @BeforeEach
+    void setUp() {
+        employeeRoster = new EmployeeRoster();
+        employeeRoster.update(Arrays.asList(
+                new Employee(1, "Tiger Nixon", 320800, 61),
+                new Employee(2, "Garrett Winters", 170750, 63),
+                new Employee(3, "Ashton Cox", 86000, 66)));
+    }
+
+    @Test
+    void testUpdate_DiffsAgainstPreviousSnapshot() {
+        RosterDiff diff = employeeRoster.update(Arrays.asList(
+                new Employee(1, "Tiger Nixon", 320800, 61),
+                new Employee(2, "Garrett Winters", 500000, 63),
+                new Employee(4, "Cedric Kelly", 433060, 22)));
+
+        assertEquals(2, diff.getVersion());
+        assertEquals(1, diff.getAdded().size());
+        assertEquals(4, diff.getAdded().get(0).getId());
+        assertEquals(1, diff.getRemoved().size());
+        assertEquals(3, diff.getRemoved().get(0).getId());
+        assertEquals(1, diff.getChanged().size());
+        assertEquals(500000, diff.getChanged().get(0).getEmployeeSalary());
+    }
+
+    @Test
+    void testUpdate_IdenticalSnapshotProducesNoDiff() {
+        List<RosterDiff> published = new ArrayList<>();
+        employeeRoster.addListener(published::add);
+
+        RosterDiff diff = employeeRoster.update(Arrays.asList(
+                new Employee(1, "Tiger Nixon", 320800, 61),
+                new Employee(2, "Garrett Winters", 170750, 63),
+                new Employee(3, "Ashton Cox", 86000, 66)));
+
+        assertTrue(diff.isEmpty());
+        assertEquals(1, employeeRoster.getVersion());
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void testUpdate_NotHeldUpBySlowListener() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> versions = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(2);
+        employeeRoster.addListener(diff -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            versions.add(diff.getVersion());
+            delivered.countDown();
+        });
+
+        employeeRoster.update(Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61)));
+        employeeRoster.update(Arrays.asList(new Employee(4, "Cedric Kelly", 433060, 22)));
+
+        assertEquals(3, employeeRoster.getVersion());
+        assertEquals(433060, employeeRoster.getHighestSalary());
+        assertTrue(versions.isEmpty());
+        release.countDown();
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(2L, 3L), versions);
+    }
+
+    @Test
+    void testSearchByName_ReturnsMatchesInIdOrder() {
+        employeeRoster.update(Arrays.asList(
+                new Employee(7, "Nixon Tiger", 433060, 22),
+                new Employee(3, "Ashton Cox", 86000, 66),
+                new Employee(1, "Tiger Nixon", 320800, 61),
+                new Employee(5, "Tiger", 86000, 66)));
+
+        List<Employee> matches = employeeRoster.searchByName("tiger", false);
+
+        assertEquals(Arrays.asList(1, 5, 7), matches.stream().map(Employee::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testIndexesFollowDiffs() {
+        employeeRoster.update(Arrays.asList(
+                new Employee(1, "Tiger Nixon", 100, 61),
+                new Employee(2, "Garrett Winters", 170750, 63),
+                new Employee(4, "Cedric Kelly", 433060, 22)));
+
+        assertEquals(433060, employeeRoster.getHighestSalary());
+        assertEquals(Arrays.asList("Cedric Kelly", "Garrett Winters"), employeeRoster.getTopEarnerNames(2));
+        assertTrue(employeeRoster.searchByName("cox", false).isEmpty());
+        assertEquals(1, employeeRoster.searchByName("KELLY", false).size());
+    }
+
+    @Test
+    void testCanonicalize_ReusesUnchangedInstances() {
+        List<Employee> first = employeeRoster.canonicalize(Arrays.asList(
+                new Employee(1, "Tiger Nixon", 320800, 61, new String("")),
+                new Employee(5, new String("Brielle Williamson"), 372000, 61, new String(""))));
+        employeeRoster.update(first);
+
+        List<Employee> second = employeeRoster.canonicalize(Arrays.asList(
+                new Employee(1, "Tiger Nixon", 320800, 61, ""),
+                new Employee(5, "Brielle Williamson", 372000, 61, "")));
+
+        assertSame(first, second);
+        assertSame(first.get(0).getProfileImage(), first.get(1).getProfileImage());
+    }
+
+    @Test
+    void testCanonicalize_SharesStringsOfChangedRecordsWithHeldRoster() {
+        List<Employee> first = employeeRoster.canonicalize(Arrays.asList(
+                new Employee(5, new String("Brielle Williamson"), 372000, 61, new String(""))));
+        employeeRoster.update(first);
+
+        List<Employee> raised = employeeRoster.canonicalize(Arrays.asList(
+                new Employee(5, new String("Brielle Williamson"), 400000, 61, new String(""))));
+
+        assertNotSame(first.get(0), raised.get(0));
+        assertSame(first.get(0).getEmployeeName(), raised.get(0).getEmployeeName());
+        assertSame(first.get(0).getProfileImage(), raised.get(0).getProfileImage());
+        assertNotSame("Brielle Williamson", raised.get(0).getEmployeeName());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.search.NameNormalizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameNormalizerTests {
+
+    @Test
+    void testFold_IgnoresCaseAcrossScripts() {
+        assertEquals("strauss", NameNormalizer.fold("STRAUSS"));
+        assertEquals("strauss", NameNormalizer.fold("Strauß"));
+        assertEquals("françois", NameNormalizer.fold("FRANÇOIS"));
+        assertEquals("οδυσσεασ", NameNormalizer.fold("ΟΔΥΣΣΕΑς"));
+        assertEquals("дмитрий", NameNormalizer.fold("Дмитрий"));
+        assertEquals("王芳", NameNormalizer.fold("王芳"));
+        assertEquals("tiger nixon", NameNormalizer.fold("  Tiger \t Nixon "));
+    }
+
+    @Test
+    void testFold_ComposesCombiningMarks() {
+        assertEquals(NameNormalizer.fold("Jos\u00e9"), NameNormalizer.fold("Jose\u0301"));
+        assertEquals("jos\u00e9 n\u00fa\u00f1ez", NameNormalizer.fold("JOSE\u0301 NU\u0301N\u0303EZ"));
+        assertNotEquals(NameNormalizer.fold("Jos\u00e9"), NameNormalizer.fold("Jose"));
+
+        EmployeeRoster roster = new EmployeeRoster();
+        roster.update(Arrays.asList(
+                new Employee(1, "Jos\u00e9 Nu\u00f1ez", 320800, 61),
+                new Employee(2, "Jose\u0301 Nun\u0303ez", 170750, 63)));
+        assertEquals(Arrays.asList(1, 2), idsOf(roster.searchByName("jos\u00e9", false)));
+        assertEquals(Arrays.asList(1, 2), idsOf(roster.searchByName("JOSE\u0301", false)));
+    }
+
+    @Test
+    void testFold_KeepsTurkishDotlessIDistinct() {
+        assertEquals("istanbul", NameNormalizer.fold("İstanbul"));
+        assertEquals("işık", NameNormalizer.fold("Işık"));
+        assertEquals("işik", NameNormalizer.fold("IŞIK"));
+        assertNotEquals(NameNormalizer.fold("Işık"), NameNormalizer.fold("Isik"));
+    }
+
+    @Test
+    void testFoldWithoutAccents_MatchesPlainLatin() {
+        assertEquals("jose nunez", NameNormalizer.foldWithoutAccents("José Núñez"));
+        assertEquals("zoe", NameNormalizer.foldWithoutAccents("Zoë"));
+        assertEquals("soren", NameNormalizer.foldWithoutAccents("Søren"));
+        assertEquals("lukasz", NameNormalizer.foldWithoutAccents("Łukasz"));
+        assertEquals("nguyen", NameNormalizer.foldWithoutAccents("Nguyễn"));
+        assertEquals("isik", NameNormalizer.foldWithoutAccents("Işık"));
+        assertEquals("istanbul", NameNormalizer.foldWithoutAccents("İstanbul"));
+        assertEquals("aesa", NameNormalizer.foldWithoutAccents("Æsa"));
+    }
+
+    @Test
+    void testSearchByName_DoesNotDependOnDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            EmployeeRoster roster = new EmployeeRoster();
+            roster.update(Arrays.asList(
+                    new Employee(1, "TIGER NIXON", 320800, 61),
+                    new Employee(2, "José Núñez", 170750, 63),
+                    new Employee(3, "Jose Nunez", 86000, 66),
+                    new Employee(4, "Ayşe Işık", 433060, 22)));
+
+            assertEquals(Arrays.asList(1), idsOf(roster.searchByName("tiger", false)));
+            assertEquals(Arrays.asList(2), idsOf(roster.searchByName("JOSÉ", false)));
+            assertEquals(Arrays.asList(2, 3), idsOf(roster.searchByName("jose", true)));
+            assertEquals(Arrays.asList(2, 3), idsOf(roster.searchByName("Núñez", true)));
+            assertTrue(roster.searchByName("isik", false).isEmpty());
+            assertEquals(Arrays.asList(4), idsOf(roster.searchByName("isik", true)));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    private static List<Integer> idsOf(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.search.NameMatches;
+import com.example.rqchallenge.search.NameSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameSearchIndexTests {
+
+    private NameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = NameSearchIndex.EMPTY.apply(Collections.emptyList(), Arrays.asList(
+                new Employee(1, "Tiger Nixon", 320800, 61),
+                new Employee(2, "Garrett Winters", 170750, 63),
+                new Employee(3, "Tiger", 86000, 66),
+                new Employee(4, "Nixon Tiger", 433060, 22)));
+    }
+
+    @Test
+    void testPrefix_RanksExactThenNameThenWordMatches() {
+        assertEquals(Arrays.asList(3, 1, 4), index.prefix("TIG", 10));
+        assertEquals(Arrays.asList(3, 1), index.prefix("tig", 2));
+        assertEquals(Arrays.asList(2), index.prefix("win", 10));
+        assertTrue(index.prefix("xyz", 10).isEmpty());
+    }
+
+    @Test
+    void testFuzzy_ToleratesTyposWithinMaxEdits() {
+        assertEquals(Arrays.asList(3, 4, 1), index.fuzzy("tigre", 1, 10).getIds());
+        assertEquals(Arrays.asList(2), index.fuzzy("winetrs", 2, 10).getIds());
+        assertTrue(index.fuzzy("winetrs", 1, 10).getIds().isEmpty());
+    }
+
+    @Test
+    void testFuzzy_AllowsMoreEditsForLongerQueries() {
+        assertTrue(index.fuzzy("tx", 2, 10).getIds().isEmpty());
+        assertEquals(Arrays.asList(3, 4, 1), index.fuzzy("tigex", 2, 10).getIds());
+        assertTrue(index.fuzzy("tigxx", 2, 10).getIds().isEmpty());
+        assertEquals(Arrays.asList(3, 1, 4), index.fuzzy("tigerxx", 2, 10).getIds());
+    }
+
+    @Test
+    void testFuzzy_ReportsWalksCutShortByTheStepBudget() {
+        List<Employee> employees = new ArrayList<>(Arrays.asList(
+                new Employee(1, "Tiger Nixon", 320800, 61),
+                new Employee(2, "Tigre Nixon", 170750, 63)));
+        NameMatches small = NameSearchIndex.EMPTY.apply(Collections.emptyList(), employees).fuzzy("tgier nixon", 2, 10);
+        assertEquals(Arrays.asList(1), small.getIds());
+        assertFalse(small.isTruncated());
+
+        // Thousands of other names starting with "t" that stay within two edits for a few letters
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder name = new StringBuilder("t");
+            for (int n = i + 100000; n > 0; n /= 26) {
+                name.append((char) ('a' + n % 26));
+            }
+            employees.add(new Employee(10 + i, name.toString(), 50000, 30));
+        }
+        NameSearchIndex large = NameSearchIndex.EMPTY.apply(Collections.emptyList(), employees);
+
+        NameMatches exact = large.fuzzy("tiger nixon", 2, 10);
+        assertEquals(Arrays.asList(1), exact.getIds());
+        assertTrue(exact.isTruncated());
+        assertEquals(Arrays.asList(1), large.fuzzy("tigxr nixon", 2, 10).getIds());
+        NameMatches twoEdits = large.fuzzy("tgier nixon", 2, 10);
+        assertTrue(twoEdits.getIds().isEmpty());
+        assertTrue(twoEdits.isTruncated());
+    }
+
+    @Test
+    void testApply_ReplacesChangedAndRemovedEmployees() {
+        NameSearchIndex updated = index.apply(Arrays.asList(1, 3), Arrays.asList(new Employee(1, "Ashton Cox", 86000, 66)));
+
+        assertEquals(Arrays.asList(4), updated.prefix("tig", 10));
+        assertEquals(Arrays.asList(1), updated.prefix("cox", 10));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.cache.CachedRoster;
+import com.example.rqchallenge.dao.PendingWrites;
+import com.example.rqchallenge.entities.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PendingWritesTests {
+
+    private static final Employee TIGER = new Employee(1, "Tiger Nixon", 320800, 61);
+    private static final Employee GARRETT = new Employee(2, "Garrett Winters", 170750, 63);
+
+    @Test
+    void testReconcile_AppliesWritesOnTopOfOlderSnapshots() {
+        PendingWrites pendingWrites = new PendingWrites(60000);
+        pendingWrites.recordCreate(GARRETT);
+        pendingWrites.recordDelete(1, TIGER);
+
+        List<Employee> applied = pendingWrites.reconcile(new CachedRoster(0, Arrays.asList(TIGER)));
+
+        assertEquals(Arrays.asList(GARRETT), applied);
+        assertEquals(2, pendingWrites.getAll().size());
+    }
+
+    @Test
+    void testReconcile_DropsWritesTheUpstreamConfirms() {
+        PendingWrites pendingWrites = new PendingWrites(60000);
+        pendingWrites.recordCreate(GARRETT);
+        pendingWrites.recordDelete(1, TIGER);
+        List<Employee> upstream = Arrays.asList(GARRETT);
+
+        List<Employee> applied = pendingWrites.reconcile(new CachedRoster(System.currentTimeMillis() + 1, upstream));
+
+        assertSame(upstream, applied);
+        assertTrue(pendingWrites.getAll().isEmpty());
+    }
+
+    @Test
+    void testReconcile_KeepsUnconfirmedWritesWithinGrace() {
+        PendingWrites pendingWrites = new PendingWrites(60000);
+        pendingWrites.recordCreate(GARRETT);
+
+        List<Employee> applied = pendingWrites.reconcile(new CachedRoster(System.currentTimeMillis() + 1, Collections.emptyList()));
+
+        assertEquals(Arrays.asList(GARRETT), applied);
+        assertNotNull(pendingWrites.get(2));
+    }
+
+    @Test
+    void testReconcile_RollsBackWritesMissingAfterGrace() {
+        PendingWrites pendingWrites = new PendingWrites(0);
+        pendingWrites.recordCreate(GARRETT);
+        pendingWrites.recordDelete(1, TIGER);
+        List<Employee> upstream = Arrays.asList(TIGER);
+
+        List<Employee> applied = pendingWrites.reconcile(new CachedRoster(System.currentTimeMillis() + 1, upstream));
+
+        assertSame(upstream, applied);
+        assertNull(pendingWrites.get(2));
+        assertNull(pendingWrites.get(1));
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.cache.LocalRosterCache;
+import com.example.rqchallenge.dao.EmployeeDAO;
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.dao.PendingWrites;
+import com.example.rqchallenge.deadline.DeadlineAwareRequestFactory;
+import com.example.rqchallenge.deadline.RequestDeadline;
+import com.example.rqchallenge.exceptions.DeadlineExceededException;
+import com.example.rqchallenge.response.EmployeeResponseSingle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RequestDeadlineTests {
+
+    private RestTemplate restTemplate;
+    private EmployeeDAO employeeDAO;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        employeeDAO = new EmployeeDAO(restTemplate, new EmployeeRoster(), null, new LocalRosterCache(60000, 10000),
+                new PendingWrites(120000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void testGetEmployeeById_AbandonedOnceDeadlinePassed() {
+        RequestDeadline.start(0);
+
+        assertThrows(DeadlineExceededException.class, () -> employeeDAO.getEmployeeById("1"));
+        verify(restTemplate, never()).getForObject(anyString(), eq(EmployeeResponseSingle.class));
+    }
+
+    @Test
+    void testGetEmployeeById_UpstreamTimeoutPastDeadlineIsDistinctFromNetworkIssue() {
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponseSingle.class))).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            throw new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out"));
+        });
+        RequestDeadline.start(10);
+
+        DeadlineExceededException thrown = assertThrows(DeadlineExceededException.class, () -> employeeDAO.getEmployeeById("1"));
+        assertEquals("Deadline exceeded: Gave up fetching employee by ID 1", thrown.getMessage());
+    }
+
+    @Test
+    void testRequestFactory_BoundsTimeoutsByRemainingBudget() throws IOException {
+        TestRequestFactory factory = new TestRequestFactory();
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost/").openConnection();
+
+        factory.prepare(connection);
+        assertEquals(2000, connection.getConnectTimeout());
+        assertEquals(10000, connection.getReadTimeout());
+
+        RequestDeadline.start(500);
+        factory.prepare(connection);
+        assertTrue(connection.getConnectTimeout() <= 500);
+        assertTrue(connection.getReadTimeout() <= 500);
+
+        RequestDeadline.start(0);
+        assertThrows(SocketTimeoutException.class, () -> factory.prepare(connection));
+    }
+
+    @Test
+    void testPropagate_CarriesDeadlineToWorkerThread() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Callable<Long> remaining = RequestDeadline::remainingMillis;
+            RequestDeadline.start(60000);
+
+            assertTrue(executor.submit(RequestDeadline.propagate(remaining)).get() <= 60000);
+            assertEquals(Long.MAX_VALUE, executor.submit(remaining).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class TestRequestFactory extends DeadlineAwareRequestFactory {
+        TestRequestFactory() {
+            super(2000, 10000);
+        }
+
+        void prepare(HttpURLConnection connection) throws IOException {
+            prepareConnection(connection, "GET");
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.cache.CachedRoster;
+import com.example.rqchallenge.cache.LocalRosterCache;
+import com.example.rqchallenge.cache.RedisRosterCache;
+import com.example.rqchallenge.dao.EmployeeDAO;
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.dao.PendingWrites;
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.exceptions.ServiceUnavailableException;
+import com.example.rqchallenge.response.EmployeeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RosterCacheTests {
+
+    private EmbeddedRespServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new EmbeddedRespServer();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void testRedisRosterCache_SharesRosterAndLeaseAcrossNodes() {
+        RedisRosterCache first = redisCache(server.getPort(), 60000);
+        RedisRosterCache second = redisCache(server.getPort(), 60000);
+
+        assertEquals(0, second.stamp());
+        assertTrue(first.tryAcquireRefreshLease());
+        assertFalse(second.tryAcquireRefreshLease());
+
+        first.put(new CachedRoster(1700000000000L, Arrays.asList(new Employee(1, "José Núñez", 50000, 30))));
+
+        assertEquals(1700000000000L, second.stamp());
+        CachedRoster shared = second.get();
+        assertEquals(1700000000000L, shared.getFetchedAt());
+        assertEquals(Arrays.asList(new Employee(1, "José Núñez", 50000, 30)), shared.getEmployees());
+    }
+
+    @Test
+    void testRedisRosterCache_EntriesExpire() throws InterruptedException {
+        RedisRosterCache cache = redisCache(server.getPort(), 50);
+
+        cache.put(new CachedRoster(1L, Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61))));
+        Thread.sleep(100);
+
+        assertEquals(0, cache.stamp());
+        assertNull(cache.get());
+    }
+
+    @Test
+    void testRedisRosterCache_FallsBackToLocalLeaseWhenUnreachable() throws IOException {
+        int unusedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            unusedPort = socket.getLocalPort();
+        }
+        RedisRosterCache cache = redisCache(unusedPort, 60000);
+
+        assertEquals(0, cache.stamp());
+        assertNull(cache.get());
+        assertTrue(cache.tryAcquireRefreshLease());
+        assertFalse(cache.tryAcquireRefreshLease());
+    }
+
+    @Test
+    void testRedisRosterCache_BacksOffAfterFailure() throws IOException {
+        RedisRosterCache cache = redisCache(server.getPort(), 60000);
+        cache.put(new CachedRoster(1L, Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61))));
+        assertEquals(1L, cache.stamp());
+
+        server.close();
+        assertEquals(0, cache.stamp());
+
+        server = new EmbeddedRespServer();
+        assertEquals(0, cache.stamp());
+        assertNull(cache.get());
+        assertTrue(cache.tryAcquireRefreshLease());
+        assertEquals(0, server.getConnectionCount());
+    }
+
+    @Test
+    void testLocalRosterCache_GrantsOneLeaseAndExpiresRoster() {
+        LocalRosterCache cache = new LocalRosterCache(0, 60000);
+
+        assertTrue(cache.tryAcquireRefreshLease());
+        assertFalse(cache.tryAcquireRefreshLease());
+
+        cache.put(new CachedRoster(System.currentTimeMillis(), Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61))));
+        assertNull(cache.get());
+    }
+
+    @Test
+    void testGetAllEmployees_ReplicasShareOneUpstreamFetch() {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        EmployeeResponse response = new EmployeeResponse();
+        response.setData(Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61), new Employee(2, "Garrett Winters", 170750, 63)));
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponse.class))).thenReturn(response);
+
+        EmployeeDAO first = new EmployeeDAO(restTemplate, new EmployeeRoster(), null, redisCache(server.getPort(), 60000), new PendingWrites(120000));
+        EmployeeDAO second = new EmployeeDAO(restTemplate, new EmployeeRoster(), null, redisCache(server.getPort(), 60000), new PendingWrites(120000));
+
+        List<Employee> fromFirst = first.getAllEmployees();
+        List<Employee> fromSecond = second.getAllEmployees();
+        List<Employee> again = second.getAllEmployees();
+
+        assertEquals(response.getData(), fromFirst);
+        assertEquals(response.getData(), fromSecond);
+        assertSame(fromSecond, again);
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(EmployeeResponse.class));
+    }
+
+    @Test
+    void testGetAllEmployees_ServesStaleRosterWhileLeaseIsHeldElsewhere() throws InterruptedException {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        EmployeeResponse response = new EmployeeResponse();
+        response.setData(Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61)));
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponse.class))).thenReturn(response);
+        LocalRosterCache sharedCache = new LocalRosterCache(50, 60000);
+
+        EmployeeDAO warm = new EmployeeDAO(restTemplate, new EmployeeRoster(), null, sharedCache, new PendingWrites(120000));
+        EmployeeDAO cold = new EmployeeDAO(restTemplate, new EmployeeRoster(), null, sharedCache, new PendingWrites(120000));
+        List<Employee> served = warm.getAllEmployees();
+        Thread.sleep(100);
+
+        assertSame(served, warm.getAllEmployees());
+        assertThrows(ServiceUnavailableException.class, cold::getAllEmployees);
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(EmployeeResponse.class));
+    }
+
+    @Test
+    void testGetAllEmployees_ReadersNeverSeeAHalfPublishedRoster() throws Exception {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        EmployeeResponse response = new EmployeeResponse();
+        response.setData(Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61), new Employee(2, "Garrett Winters", 170750, 63)));
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponse.class))).thenReturn(response);
+        EmployeeDAO employeeDAO = new EmployeeDAO(restTemplate, new EmployeeRoster(), null, new LocalRosterCache(1, 0),
+                new PendingWrites(120000));
+
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> sizes = new ArrayList<>();
+            for (int r = 0; r < 4; r++) {
+                sizes.add(readers.submit(() -> {
+                    int smallest = Integer.MAX_VALUE;
+                    for (int i = 0; i < 500; i++) {
+                        smallest = Math.min(smallest, employeeDAO.getAllEmployees().size());
+                    }
+                    return smallest;
+                }));
+            }
+            for (Future<Integer> size : sizes) {
+                assertEquals(2, size.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    private static RedisRosterCache redisCache(int port, long ttlMillis) {
+        return new RedisRosterCache(new ObjectMapper(), "127.0.0.1", port, 1000, "test:roster", ttlMillis, 10000, 60000);
+    }
+}
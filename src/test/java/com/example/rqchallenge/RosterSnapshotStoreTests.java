@@ -0,0 +1,97 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.cache.CachedRoster;
+import com.example.rqchallenge.cache.LocalRosterCache;
+import com.example.rqchallenge.dao.EmployeeDAO;
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.dao.PendingWrites;
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.EmployeeResponse;
+import com.example.rqchallenge.response.EmployeeResponseSingle;
+import com.example.rqchallenge.startup.RosterSnapshotStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RosterSnapshotStoreTests {
+
+    @TempDir
+    Path tempDir;
+
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+    }
+
+    @Test
+    void testSnapshotKeepsConfirmedRosterAndSurvivesRestart() {
+        String file = tempDir.resolve("snapshots").resolve("roster.json").toString();
+        EmployeeDAO employeeDAO = employeeDAO();
+        RosterSnapshotStore store = new RosterSnapshotStore(employeeDAO, new ObjectMapper(), file);
+        assertNull(store.load());
+
+        EmployeeResponse response = new EmployeeResponse();
+        response.setData(Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61), new Employee(2, "Garrett Winters", 170750, 63)));
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponse.class))).thenReturn(response);
+        when(restTemplate.postForObject(anyString(), any(Employee.class), eq(EmployeeResponseSingle.class)))
+                .thenReturn(new EmployeeResponseSingle(new Employee(3, "Jane Doe", 60000, 28)));
+
+        long before = System.currentTimeMillis();
+        employeeDAO.getAllEmployees();
+        employeeDAO.createEmployee("Jane Doe", 60000, 28);
+        assertEquals(3, employeeDAO.getAllEmployees().size());
+
+        CachedRoster restored = awaitSnapshot(new RosterSnapshotStore(employeeDAO(), new ObjectMapper(), file), 2);
+        assertEquals(new HashSet<>(response.getData()), new HashSet<>(restored.getEmployees()));
+        assertTrue(restored.getFetchedAt() >= before - 1000);
+        assertTrue(restored.getFetchedAt() <= System.currentTimeMillis());
+    }
+
+    /** Snapshots are written by a background thread, so give it a moment. */
+    private static CachedRoster awaitSnapshot(RosterSnapshotStore store, int expectedSize) {
+        long deadline = System.currentTimeMillis() + 5000;
+        CachedRoster restored = store.load();
+        while ((restored == null || restored.getEmployees().size() != expectedSize) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            restored = store.load();
+        }
+        return restored;
+    }
+
+    @Test
+    void testDisabledWithoutFile() {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setData(Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61)));
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponse.class))).thenReturn(response);
+        EmployeeDAO employeeDAO = employeeDAO();
+        RosterSnapshotStore store = new RosterSnapshotStore(employeeDAO, new ObjectMapper(), "");
+
+        employeeDAO.getAllEmployees();
+
+        assertNull(store.load());
+    }
+
+    private EmployeeDAO employeeDAO() {
+        return new EmployeeDAO(restTemplate, new EmployeeRoster(), null, new LocalRosterCache(60000, 10000),
+                new PendingWrites(120000));
+    }
+}
@@ -1,8 +1,15 @@
 package com.example.rqchallenge;
 
+import com.example.rqchallenge.cache.LocalRosterCache;
+import com.example.rqchallenge.cache.RosterCache;
 import com.example.rqchallenge.dao.EmployeeDAO;
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.dao.PendingWrite;
+import com.example.rqchallenge.dao.PendingWrites;
 import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.exceptions.DeadlineExceededException;
 import com.example.rqchallenge.exceptions.TooManyRequestsException;
+import com.example.rqchallenge.response.EmployeeLookupResult;
 import com.example.rqchallenge.response.EmployeeResponse;
 import com.example.rqchallenge.response.EmployeeResponseSingle;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,7 +17,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
@@ -18,10 +27,16 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.Mockito.*;
 
 class RqChallengeApplicationTests {
@@ -29,6 +44,15 @@ class RqChallengeApplicationTests {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private EmployeeRoster employeeRoster = new EmployeeRoster();
+
+    @Spy
+    private RosterCache rosterCache = new LocalRosterCache(60000, 10000);
+
+    @Spy
+    private PendingWrites pendingWrites = new PendingWrites(120000);
+
     @InjectMocks
     private EmployeeDAO employeeDAO;
 
@@ -332,10 +356,153 @@ class RqChallengeApplicationTests {
         assertEquals("Age must be greater than or equal to 0", thrown.getMessage());
         verify(restTemplate, never()).postForObject(anyString(), any(Employee.class), eq(EmployeeResponseSingle.class));
     }
-}
 
+    @Test
+    void testSuggestEmployeesByName_RefreshesExpiredRoster() throws InterruptedException {
+        EmployeeDAO dao = new EmployeeDAO(restTemplate, employeeRoster, null, new LocalRosterCache(1, 0), pendingWrites);
+        EmployeeResponse first = new EmployeeResponse();
+        first.setData(Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61)));
+        EmployeeResponse second = new EmployeeResponse();
+        second.setData(Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61), new Employee(2, "Tiger Woods", 170750, 48)));
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponse.class))).thenReturn(first, second);
+
+        assertEquals(1, dao.suggestEmployeesByName("tig", 0, 10).getData().size());
+        Thread.sleep(5);
+        assertEquals(2, dao.suggestEmployeesByName("tig", 0, 10).getData().size());
+        verify(restTemplate, times(2)).getForObject(anyString(), eq(EmployeeResponse.class));
+    }
+
+    @Test
+    void testGetEmployeesByIds_ServesRosterHitsAndFetchesMisses() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            EmployeeDAO dao = new EmployeeDAO(restTemplate, employeeRoster, executor, rosterCache, pendingWrites);
+            ReflectionTestUtils.setField(dao, "multiGetTimeoutMillis", 1000L);
+            ReflectionTestUtils.setField(dao, "multiGetMaxIds", 10);
+            employeeRoster.update(Arrays.asList(new Employee(1, "John Doe", 50000, 30)));
+
+            EmployeeResponseSingle found = new EmployeeResponseSingle(new Employee(2, "Jane Doe", 60000, 28));
+            when(restTemplate.getForObject(endsWith("/employee/2"), eq(EmployeeResponseSingle.class))).thenReturn(found);
+            when(restTemplate.getForObject(endsWith("/employee/3"), eq(EmployeeResponseSingle.class)))
+                    .thenThrow(HttpClientErrorException.TooManyRequests.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+
+            List<EmployeeLookupResult> results = dao.getEmployeesByIds(Arrays.asList("1", "2", "3", "1"));
+
+            assertEquals(3, results.size());
+            assertEquals(EmployeeLookupResult.Status.FOUND, results.get(0).getStatus());
+            assertEquals("John Doe", results.get(0).getData().getEmployeeName());
+            assertEquals(EmployeeLookupResult.Status.FOUND, results.get(1).getStatus());
+            assertEquals("Jane Doe", results.get(1).getData().getEmployeeName());
+            assertEquals(EmployeeLookupResult.Status.RATE_LIMITED, results.get(2).getStatus());
+            verify(restTemplate, never()).getForObject(endsWith("/employee/1"), eq(EmployeeResponseSingle.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetEmployeesByIds_LookupsBeyondQueueCapacityAreRateLimited() {
+        ExecutorService executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        try {
+            EmployeeDAO dao = new EmployeeDAO(restTemplate, employeeRoster, executor, rosterCache, pendingWrites);
+            ReflectionTestUtils.setField(dao, "multiGetTimeoutMillis", 1000L);
+            ReflectionTestUtils.setField(dao, "multiGetMaxIds", 10);
+            when(restTemplate.getForObject(anyString(), eq(EmployeeResponseSingle.class))).thenAnswer(invocation -> {
+                Thread.sleep(50);
+                return new EmployeeResponseSingle(new Employee(2, "Jane Doe", 60000, 28));
+            });
+
+            List<EmployeeLookupResult> results = dao.getEmployeesByIds(Arrays.asList("2", "3", "4"));
+
+            assertEquals(EmployeeLookupResult.Status.FOUND, results.get(0).getStatus());
+            assertEquals(EmployeeLookupResult.Status.FOUND, results.get(1).getStatus());
+            assertEquals(EmployeeLookupResult.Status.RATE_LIMITED, results.get(2).getStatus());
+            verify(restTemplate, never()).getForObject(endsWith("/employee/4"), eq(EmployeeResponseSingle.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetEmployeesByIds_LookupPastItsDeadlineIsTimedOut() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            EmployeeDAO dao = spy(new EmployeeDAO(restTemplate, employeeRoster, executor, rosterCache, pendingWrites));
+            ReflectionTestUtils.setField(dao, "multiGetTimeoutMillis", 1000L);
+            ReflectionTestUtils.setField(dao, "multiGetMaxIds", 10);
+            doThrow(new DeadlineExceededException("Deadline exceeded: Gave up fetching employee by ID 2"))
+                    .when(dao).getEmployeeById("2");
+
+            List<EmployeeLookupResult> results = dao.getEmployeesByIds(Arrays.asList("2"));
+
+            assertEquals(EmployeeLookupResult.Status.TIMED_OUT, results.get(0).getStatus());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetEmployeesByIds_TooManyIds() {
+        ReflectionTestUtils.setField(employeeDAO, "multiGetMaxIds", 1);
+
+        assertThrows(IllegalArgumentException.class, () -> employeeDAO.getEmployeesByIds(Arrays.asList("1", "2")));
+        verify(restTemplate, never()).getForObject(anyString(), eq(EmployeeResponseSingle.class));
+    }
+
+    @Test
+    void testCreateEmployee_VisibleWithoutRefetch() {
+        EmployeeResponse roster = new EmployeeResponse();
+        roster.setData(Arrays.asList(new Employee(1, "John Doe", 50000, 30)));
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponse.class))).thenReturn(roster);
+        when(restTemplate.postForObject(anyString(), any(Employee.class), eq(EmployeeResponseSingle.class)))
+                .thenReturn(new EmployeeResponseSingle(new Employee(7, "Jane Doe", 60000, 28)));
+
+        employeeDAO.getAllEmployees();
+        employeeDAO.createEmployee("Jane Doe", 60000, 28);
+        List<Employee> employees = employeeDAO.getAllEmployees();
 
+        assertEquals(2, employees.size());
+        assertEquals("Jane Doe", employeeDAO.getEmployeeById("7").getEmployeeName());
+        assertEquals(PendingWrite.Type.CREATE, employeeDAO.getPendingWrites().get(0).getType());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(EmployeeResponse.class));
+        verify(restTemplate, never()).getForObject(anyString(), eq(EmployeeResponseSingle.class));
+    }
 
+    @Test
+    void testDeleteEmployee_HiddenWithoutRefetch() {
+        EmployeeResponse roster = new EmployeeResponse();
+        roster.setData(Arrays.asList(new Employee(1, "John Doe", 50000, 30), new Employee(2, "Jane Doe", 60000, 28)));
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponse.class))).thenReturn(roster);
 
+        employeeDAO.getAllEmployees();
+        assertEquals("Employee with ID 1 deleted successfully.", employeeDAO.deleteEmployee("1"));
+        List<Employee> employees = employeeDAO.getAllEmployees();
 
+        assertEquals(1, employees.size());
+        assertEquals("Jane Doe", employees.get(0).getEmployeeName());
+        assertNull(employeeDAO.getEmployeeById("1"));
+        assertEquals("John Doe", employeeDAO.getPendingWrites().get(0).getEmployee().getEmployeeName());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(EmployeeResponse.class));
+        verify(restTemplate, never()).getForObject(anyString(), eq(EmployeeResponseSingle.class));
+    }
 
+    @Test
+    void testCreateEmployee_ReturnsCreatedEmployeeWhenLocalBookkeepingFails() {
+        when(restTemplate.postForObject(anyString(), any(Employee.class), eq(EmployeeResponseSingle.class)))
+                .thenReturn(new EmployeeResponseSingle(new Employee(7, "Jane Doe", 60000, 28)));
+        doThrow(new IllegalStateException("bookkeeping failed")).when(pendingWrites).recordCreate(any(Employee.class));
+
+        Employee created = employeeDAO.createEmployee("Jane Doe", 60000, 28);
+
+        assertEquals(7, created.getId());
+        assertEquals("Jane Doe", created.getEmployeeName());
+    }
+
+    @Test
+    void testDeleteEmployee_ReportsSuccessWhenLocalBookkeepingFails() {
+        doThrow(new IllegalStateException("bookkeeping failed")).when(pendingWrites).recordDelete(anyInt(), any());
+
+        assertEquals("Employee with ID 1 deleted successfully.", employeeDAO.deleteEmployee("1"));
+        verify(restTemplate, times(1)).delete(anyString());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.analytics.AgeBands;
+import com.example.rqchallenge.analytics.EmployeeFilter;
+import com.example.rqchallenge.analytics.SalaryAnalytics;
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.SalaryBandSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryAnalyticsTests {
+
+    private EmployeeRoster roster;
+    private SalaryAnalytics analytics;
+
+    @BeforeEach
+    void setUp() {
+        roster = new EmployeeRoster();
+        roster.update(Arrays.asList(
+                new Employee(1, "Tiger Nixon", 320800, 61),
+                new Employee(2, "Garrett Winters", 170750, 63),
+                new Employee(3, "Ashton Cox", 86000, 66),
+                new Employee(4, "Cedric Kelly", 433060, 22),
+                new Employee(5, "Airi Satou", 162700, 33),
+                new Employee(6, "Brielle Williamson", 372000, 61),
+                new Employee(7, "Herrod Chandler", 137500, 59),
+                new Employee(8, "Rhona Davidson", 327900, 55),
+                new Employee(9, "Colleen Hurst", 205500, 39),
+                new Employee(10, "Sonya Frost", 103600, 23)));
+        analytics = new SalaryAnalytics(roster, "30,40,50,60", 10000, 256);
+    }
+
+    @Test
+    void testAgeBands_LabelsAndBounds() {
+        AgeBands bands = AgeBands.parse("30, 40");
+
+        assertEquals(4, bands.count());
+        assertEquals(Arrays.asList("<30", "30-39", "40+", "unknown"),
+                Arrays.asList(bands.label(0), bands.label(1), bands.label(2), bands.label(3)));
+        assertEquals(0, bands.indexOf(29));
+        assertEquals(1, bands.indexOf(30));
+        assertEquals(1, bands.indexOf(39));
+        assertEquals(2, bands.indexOf(40));
+        assertEquals(3, bands.indexOf(null));
+        assertEquals(30, bands.minAge(1));
+        assertEquals(39, bands.maxAge(1));
+        assertNull(bands.maxAge(2));
+        assertThrows(IllegalArgumentException.class, () -> AgeBands.parse("40,30"));
+    }
+
+    @Test
+    void testGetSalaryBands_AggregatesPerBand() {
+        List<SalaryBandSummary> bands = analytics.getSalaryBands(2);
+
+        assertEquals(Arrays.asList("<30", "30-39", "40-49", "50-59", "60+"),
+                bands.stream().map(SalaryBandSummary::getBand).collect(Collectors.toList()));
+
+        SalaryBandSummary thirties = bands.get(1);
+        assertEquals(2, thirties.getEmployeeCount());
+        assertEquals(368200, thirties.getTotalSalary());
+        assertEquals(184100.0, thirties.getAverageSalary());
+        assertEquals(162700, thirties.getLowestSalary());
+        assertEquals(205500, thirties.getHighestSalary());
+
+        SalaryBandSummary forties = bands.get(2);
+        assertEquals(0, forties.getEmployeeCount());
+        assertNull(forties.getHighestSalary());
+        assertTrue(forties.getTopEarners().isEmpty());
+
+        SalaryBandSummary sixtiesAndOver = bands.get(4);
+        assertEquals(4, sixtiesAndOver.getEmployeeCount());
+        assertEquals(Arrays.asList("Brielle Williamson", "Tiger Nixon"),
+                sixtiesAndOver.getTopEarners().stream().map(Employee::getEmployeeName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testGetSalaryBands_ParallelMatchesSequential() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 1; i <= 50000; i++) {
+            employees.add(new Employee(i, "Employee " + i, (i * 7919) % 500000, 18 + i % 50));
+        }
+        roster.update(employees);
+        SalaryAnalytics parallel = new SalaryAnalytics(roster, "30,40,50,60", 1, 256);
+        SalaryAnalytics sequential = new SalaryAnalytics(roster, "30,40,50,60", Integer.MAX_VALUE, 256);
+
+        List<SalaryBandSummary> expected = sequential.getSalaryBands(5);
+        List<SalaryBandSummary> actual = parallel.getSalaryBands(5);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getEmployeeCount(), actual.get(i).getEmployeeCount());
+            assertEquals(expected.get(i).getTotalSalary(), actual.get(i).getTotalSalary());
+            assertEquals(expected.get(i).getLowestSalary(), actual.get(i).getLowestSalary());
+            assertEquals(expected.get(i).getHighestSalary(), actual.get(i).getHighestSalary());
+            assertEquals(expected.get(i).getTopEarners(), actual.get(i).getTopEarners());
+        }
+        assertEquals(sequential.getTopEarners(new EmployeeFilter(25, 35, null, 400000), 20),
+                parallel.getTopEarners(new EmployeeFilter(25, 35, null, 400000), 20));
+    }
+
+    @Test
+    void testGetSalaryBands_LeavesUnknownSalariesOutOfTheFigures() {
+        List<Employee> employees = new ArrayList<>(roster.getEmployees());
+        employees.add(new Employee(11, "Jena Gaines", null, 35, ""));
+        roster.update(employees);
+
+        SalaryBandSummary thirties = analytics.getSalaryBands(3).get(1);
+
+        assertEquals(3, thirties.getEmployeeCount());
+        assertEquals(1, thirties.getUnknownSalaryCount());
+        assertEquals(368200, thirties.getTotalSalary());
+        assertEquals(184100.0, thirties.getAverageSalary());
+        assertEquals(162700, thirties.getLowestSalary());
+        assertEquals(Arrays.asList(9, 5), thirties.getTopEarners().stream().map(Employee::getId).collect(Collectors.toList()));
+        assertEquals(10, analytics.getTopEarners(EmployeeFilter.ALL, 100).size());
+    }
+
+    @Test
+    void testGetTopEarners_RanksFilteredSubset() {
+        List<Employee> topEarners = analytics.getTopEarners(new EmployeeFilter(50, null, null, 350000), 3);
+
+        assertEquals(Arrays.asList(8, 1, 2), topEarners.stream().map(Employee::getId).collect(Collectors.toList()));
+        assertEquals(10, analytics.getTopEarners(EmployeeFilter.ALL, 100).size());
+        assertThrows(IllegalArgumentException.class, () -> new EmployeeFilter(40, 30, null, null));
+        assertThrows(IllegalArgumentException.class, () -> analytics.getTopEarners(EmployeeFilter.ALL, 0));
+    }
+
+    @Test
+    void testResults_CachedUntilRosterVersionChanges() {
+        List<SalaryBandSummary> first = analytics.getSalaryBands(3);
+        List<Employee> firstTop = analytics.getTopEarners(new EmployeeFilter(null, 40, null, null), 3);
+
+        assertSame(first, analytics.getSalaryBands(3));
+        assertSame(firstTop, analytics.getTopEarners(new EmployeeFilter(null, 40, null, null), 3));
+
+        List<Employee> updated = new ArrayList<>(roster.getEmployees());
+        updated.add(new Employee(11, "Jena Gaines", 900000, 30));
+        roster.update(updated);
+
+        List<SalaryBandSummary> refreshed = analytics.getSalaryBands(3);
+        assertNotSame(first, refreshed);
+        assertEquals(3, refreshed.get(1).getEmployeeCount());
+        assertEquals(11, analytics.getTopEarners(new EmployeeFilter(null, 40, null, null), 3).get(0).getId());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.cache.LocalRosterCache;
+import com.example.rqchallenge.dao.EmployeeDAO;
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.dao.PendingWrites;
+import com.example.rqchallenge.exceptions.TooManyRequestsException;
+import com.example.rqchallenge.exceptions.UpstreamException;
+import com.example.rqchallenge.logging.RateLimitedLogger;
+import com.example.rqchallenge.response.EmployeeResponseSingle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UpstreamFailureTests {
+
+    private RestTemplate restTemplate;
+    private EmployeeDAO employeeDAO;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        employeeDAO = new EmployeeDAO(restTemplate, new EmployeeRoster(), null, new LocalRosterCache(60000, 10000),
+                new PendingWrites(120000));
+    }
+
+    @Test
+    void testRepeatedRateLimit_ReusesOneStacklessException() {
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponseSingle.class)))
+                .thenThrow(HttpClientErrorException.TooManyRequests.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+
+        TooManyRequestsException first = assertThrows(TooManyRequestsException.class, () -> employeeDAO.getEmployeeById("1"));
+        TooManyRequestsException second = assertThrows(TooManyRequestsException.class, () -> employeeDAO.getEmployeeById("2"));
+
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals("Too Many Requests: Please try again later. null allows 1 request per minute", first.getMessage());
+    }
+
+    @Test
+    void testUnexpectedError_KeepsCauseAndStackTrace() {
+        IllegalStateException cause = new IllegalStateException("boom");
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponseSingle.class))).thenThrow(cause);
+
+        UpstreamException thrown = assertThrows(UpstreamException.class, () -> employeeDAO.getEmployeeById("1"));
+        assertEquals("Unexpected error: boom", thrown.getMessage());
+        assertSame(cause, thrown.getCause());
+        assertTrue(thrown.getStackTrace().length > 0);
+    }
+
+    @Test
+    void testUpstreamNotFound_IsAnEmptyResultNotAnError() {
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponseSingle.class)))
+                .thenThrow(HttpClientErrorException.NotFound.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        assertNull(employeeDAO.getEmployeeById("404"));
+    }
+
+    @Test
+    void testRateLimitedLogger_LogsOncePerIntervalAndCountsTheRest() {
+        Logger logger = mock(Logger.class);
+        when(logger.isErrorEnabled()).thenReturn(true);
+        RateLimitedLogger rateLimited = new RateLimitedLogger(logger, Duration.ofMillis(50));
+
+        for (int i = 0; i < 5; i++) {
+            rateLimited.error("Upstream failed for {}: {}", i, "429");
+        }
+        verify(logger).error("Upstream failed for {}: {}", new Object[]{0, "429"});
+        verify(logger, never()).error("Upstream failed for {}: {}", new Object[]{4, "429"});
+
+        rateLimited.error("Other failure: {}", "500");
+        verify(logger).error("Other failure: {}", new Object[]{"500"});
+
+        await(60);
+        rateLimited.error("Upstream failed for {}: {}", 5, "429");
+        verify(logger).error("Upstream failed for {}: {} ({} similar suppressed)", new Object[]{5, "429", 4L});
+    }
+
+    @Test
+    void testRateLimitedLogger_KeepsThrowableLast() {
+        Logger logger = mock(Logger.class);
+        when(logger.isErrorEnabled()).thenReturn(true);
+        RateLimitedLogger rateLimited = new RateLimitedLogger(logger, Duration.ofMillis(50));
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalStateException second = new IllegalStateException("second");
+
+        rateLimited.error("Unexpected error for {}", 1, first);
+        rateLimited.error("Unexpected error for {}", 2, first);
+        await(60);
+        rateLimited.error("Unexpected error for {}", 3, second);
+
+        verify(logger).error("Unexpected error for {}", new Object[]{1, first});
+        verify(logger).error("Unexpected error for {} ({} similar suppressed)", new Object[]{3, 1L, second});
+    }
+
+    private static void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.cache.LocalRosterCache;
+import com.example.rqchallenge.cache.RosterCache;
+import com.example.rqchallenge.dao.EmployeeDAO;
+import com.example.rqchallenge.dao.EmployeeRoster;
+import com.example.rqchallenge.dao.PendingWrites;
+import com.example.rqchallenge.entities.Employee;
+import com.example.rqchallenge.response.EmployeeResponse;
+import com.example.rqchallenge.startup.RosterSnapshotStore;
+import com.example.rqchallenge.startup.WarmupRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class WarmupRunnerTests {
+
+    private static final List<Employee> SNAPSHOT = Arrays.asList(
+            new Employee(1, "Tiger Nixon", 320800, 61), new Employee(2, "Garrett Winters", 170750, 63));
+
+    @TempDir
+    Path tempDir;
+
+    private RestTemplate restTemplate;
+    private RosterCache rosterCache;
+    private EmployeeDAO employeeDAO;
+    private EmployeeRoster employeeRoster;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        EmployeeResponse response = new EmployeeResponse();
+        response.setData(Arrays.asList(new Employee(1, "Tiger Nixon", 320800, 61)));
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponse.class))).thenReturn(response);
+        rosterCache = new LocalRosterCache(60000, 10000);
+        employeeRoster = new EmployeeRoster();
+        employeeDAO = new EmployeeDAO(restTemplate, employeeRoster, null, rosterCache, new PendingWrites(120000));
+    }
+
+    @Test
+    void testRun_ServesFreshSnapshotWithoutFetching() throws IOException {
+        long fetchedAt = System.currentTimeMillis() - 1000;
+        warmupRunner(writeSnapshot(fetchedAt), 2000, 1000).run(null);
+
+        assertEquals(fetchedAt, rosterCache.stamp());
+        assertEquals(2, employeeDAO.getAllEmployees().size());
+        verify(restTemplate, never()).getForObject(anyString(), eq(EmployeeResponse.class));
+    }
+
+    @Test
+    void testRun_FetchesWhenSnapshotIsStale() throws IOException {
+        warmupRunner(writeSnapshot(System.currentTimeMillis() - 120000), 2000, 1000).run(null);
+
+        assertEquals(1, employeeDAO.getAllEmployees().size());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(EmployeeResponse.class));
+    }
+
+    @Test
+    void testRun_StopsRepeatingQueriesAtTheBudget() {
+        long start = System.currentTimeMillis();
+        warmupRunner("", Integer.MAX_VALUE, 50).run(null);
+
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(EmployeeResponse.class));
+    }
+
+    private String writeSnapshot(long fetchedAt) throws IOException {
+        Path file = tempDir.resolve("roster.json");
+        new ObjectMapper().writeValue(file.toFile(), SNAPSHOT);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(fetchedAt));
+        return file.toString();
+    }
+
+    private WarmupRunner warmupRunner(String snapshotFile, int iterations, long budgetMillis) {
+        RosterSnapshotStore snapshotStore = new RosterSnapshotStore(employeeDAO, new ObjectMapper(), snapshotFile);
+        return new WarmupRunner(employeeDAO, employeeRoster, rosterCache, snapshotStore, new ObjectMapper(),
+                new MappingJackson2CborHttpMessageConverter(), new MappingJackson2SmileHttpMessageConverter(),
+                new SimpleMeterRegistry(), 60000, iterations, budgetMillis);
+    }
+}